@@ -2,6 +2,9 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -23,11 +26,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +42,13 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 5, 0, true);
 
+    public static final String MESSAGE_SKIPPED_PERSONS =
+            "%1$d persons in the data file could not be loaded, and will be left out of it when it is next saved:";
+    public static final String MESSAGE_MORE_SKIPPED_PERSONS = "... and %1$d more, listed in the log.";
+
+    /** The number of persons that could not be loaded whose reasons are shown at startup. */
+    private static final int MAX_SKIPPED_PERSONS_SHOWN = 5;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -57,14 +68,15 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath());
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage),
+                config.getMaxSaveStaleness());
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, getStartupMessages(storage));
     }
 
     /**
@@ -93,6 +105,26 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the messages to show at startup about the persons in {@code storage}'s address book that could not be
+     * loaded, if any.
+     */
+    private List<String> getStartupMessages(Storage storage) {
+        List<String> skippedPersonMessages = storage.getSkippedPersonMessages();
+        if (skippedPersonMessages.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int shownCount = Math.min(skippedPersonMessages.size(), MAX_SKIPPED_PERSONS_SHOWN);
+        List<String> messages = new ArrayList<>();
+        messages.add(String.format(MESSAGE_SKIPPED_PERSONS, skippedPersonMessages.size()));
+        messages.addAll(skippedPersonMessages.subList(0, shownCount));
+        if (skippedPersonMessages.size() > shownCount) {
+            messages.add(String.format(MESSAGE_MORE_SKIPPED_PERSONS, skippedPersonMessages.size() - shownCount));
+        }
+        return messages;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -182,5 +214,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -13,10 +13,12 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_MAX_SAVE_STALENESS = 1000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long maxSaveStaleness = DEFAULT_MAX_SAVE_STALENESS;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,25 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the longest time, in milliseconds, that a change to the address book may wait to be written to the disk.
+     * A negative value read from the config file is replaced by the default, so that it does not stop the app from
+     * starting.
+     */
+    public long getMaxSaveStaleness() {
+        return maxSaveStaleness < 0 ? DEFAULT_MAX_SAVE_STALENESS : maxSaveStaleness;
+    }
+
+    /**
+     * Sets the longest time, in milliseconds, that a change to the address book may wait to be written to the disk.
+     */
+    public void setMaxSaveStaleness(long maxSaveStaleness) {
+        if (maxSaveStaleness < 0) {
+            throw new IllegalArgumentException("Maximum save staleness must not be negative.");
+        }
+        this.maxSaveStaleness = maxSaveStaleness;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +68,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && maxSaveStaleness == otherConfig.maxSaveStaleness;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, maxSaveStaleness);
     }
 
     @Override
@@ -60,6 +82,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("maxSaveStaleness", maxSaveStaleness)
                 .toString();
     }
 
@@ -0,0 +1,186 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+
+/**
+ * Computes Levenshtein distances up to a given maximum, for {@link StringUtil}, without allocating on each call.
+ *
+ * When the shorter of the two strings has at most 64 characters, the distance is computed with Myers' bit-parallel
+ * algorithm, which keeps a whole column of the edit distance matrix in two {@code long}s and so takes a few operations
+ * per character of the longer string. Longer strings fall back to computing two rows of the matrix at a time,
+ * only within the band of cells that can be within the maximum distance. Either way, the computation stops as soon as
+ * the distance is known to exceed the maximum.
+ *
+ * The tables used by the computation are reused by each thread, so it allocates nothing once they are large enough.
+ */
+final class EditDistance {
+
+    private static final int ASCII_SIZE = 128;
+
+    private static final ThreadLocal<EditDistance> SCRATCH = ThreadLocal.withInitial(EditDistance::new);
+
+    /** For every ASCII character, the bit mask of its positions in the current pattern. */
+    private final long[] asciiMasks = new long[ASCII_SIZE];
+
+    /** The other characters of the current pattern, and the bit masks of their positions, in no particular order. */
+    private final char[] otherChars = new char[Long.SIZE];
+    private final long[] otherMasks = new long[Long.SIZE];
+    private int otherCount;
+
+    private int[] previousRow = new int[0];
+    private int[] currentRow = new int[0];
+
+    private EditDistance() {}
+
+    /**
+     * Returns the Levenshtein distance between {@code s1} and {@code s2} if it is at most {@code maxDistance}, and
+     * {@code maxDistance + 1} otherwise.
+     */
+    static int compute(String s1, String s2, int maxDistance) {
+        assert maxDistance >= 0;
+        String pattern = s1.length() <= s2.length() ? s1 : s2;
+        String text = pattern == s1 ? s2 : s1;
+
+        // the distance is at most the length of the longer string, which also keeps maxDistance + 1 from overflowing
+        int bound = Math.min(maxDistance, text.length());
+        if (text.length() - pattern.length() > bound) {
+            return bound + 1;
+        } else if (pattern.isEmpty()) {
+            return text.length();
+        }
+
+        EditDistance scratch = SCRATCH.get();
+        return pattern.length() <= Long.SIZE
+                ? scratch.computeBitParallel(pattern, text, bound)
+                : scratch.computeBanded(pattern, text, bound);
+    }
+
+    /**
+     * Computes the distance with Myers' algorithm, as formulated by Hyyrö for the edit distance between two strings.
+     * Bit {@code i} of {@code pv} and {@code mv} tells whether the cell in row {@code i + 1} of the current column is
+     * one more or one less than the cell above it, and the cell in the last row is tracked as {@code distance}.
+     */
+    private int computeBitParallel(String pattern, String text, int maxDistance) {
+        setPattern(pattern);
+        long lastRowBit = 1L << (pattern.length() - 1);
+        long pv = -1L;
+        long mv = 0L;
+        int distance = pattern.length();
+        int remaining = text.length();
+        try {
+            for (int j = 0; j < text.length(); j++) {
+                long eq = maskOf(text.charAt(j));
+                long xv = eq | mv;
+                long xh = (((eq & pv) + pv) ^ pv) | eq;
+                long ph = mv | ~(xh | pv);
+                long mh = pv & xh;
+                if ((ph & lastRowBit) != 0) {
+                    distance++;
+                } else if ((mh & lastRowBit) != 0) {
+                    distance--;
+                }
+
+                // each of the remaining characters can lower the distance by at most one
+                remaining--;
+                if (distance - remaining > maxDistance) {
+                    return maxDistance + 1;
+                }
+
+                ph = (ph << 1) | 1L;
+                mh <<= 1;
+                pv = mh | ~(xv | ph);
+                mv = ph & xv;
+            }
+        } finally {
+            clearPattern(pattern);
+        }
+        return Math.min(distance, maxDistance + 1);
+    }
+
+    /**
+     * Computes the distance two rows at a time, where row {@code i} holds the distances between the first {@code i}
+     * characters of {@code pattern} and each start of {@code text}. Cells further than {@code maxDistance} from the
+     * diagonal are more than {@code maxDistance}, so they are left out of the band and treated as such.
+     */
+    private int computeBanded(String pattern, String text, int maxDistance) {
+        int columns = text.length() + 1;
+        if (previousRow.length < columns) {
+            previousRow = new int[columns];
+            currentRow = new int[columns];
+        }
+        int outside = maxDistance + 1;
+        int[] previous = previousRow;
+        int[] current = currentRow;
+        for (int j = 0; j < columns; j++) {
+            previous[j] = Math.min(j, outside);
+        }
+
+        for (int i = 1; i <= pattern.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(text.length(), i + maxDistance);
+            current[from - 1] = from == 1 ? Math.min(i, outside) : outside;
+            int rowMinimum = current[from - 1];
+            char patternChar = pattern.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = patternChar == text.charAt(j - 1) ? 0 : 1;
+                int cell = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(cell, outside);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < text.length()) {
+                current[to + 1] = outside;
+            }
+
+            // every cell of the remaining rows is at least the smallest cell of this row
+            if (rowMinimum > maxDistance) {
+                return outside;
+            }
+            int[] swapped = previous;
+            previous = current;
+            current = swapped;
+        }
+        return previous[text.length()];
+    }
+
+    private void setPattern(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII_SIZE) {
+                asciiMasks[c] |= 1L << i;
+                continue;
+            }
+            int index = indexOfOther(c);
+            if (index == otherCount) {
+                otherChars[otherCount++] = c;
+            }
+            otherMasks[index] |= 1L << i;
+        }
+    }
+
+    private void clearPattern(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII_SIZE) {
+                asciiMasks[c] = 0L;
+            }
+        }
+        Arrays.fill(otherMasks, 0, otherCount, 0L);
+        otherCount = 0;
+    }
+
+    private long maskOf(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiMasks[c];
+        }
+        int index = indexOfOther(c);
+        return index < otherCount ? otherMasks[index] : 0L;
+    }
+
+    private int indexOfOther(char c) {
+        int index = 0;
+        while (index < otherCount && otherChars[index] != c) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,9 +12,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
@@ -45,7 +50,8 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        // the file is parsed as it is read, instead of being read into a string first
+        return objectMapper.readValue(jsonFile.toFile(), classOfObjectToDeserialize);
     }
 
     /**
@@ -101,6 +107,44 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a parser of the JSON data in the given file, which reads the file as it is parsed.
+     * The values parsed can be converted one at a time with {@link #fromJsonParser(JsonParser, Class)}.
+     * @param filePath cannot be null
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        // the factory of the mapper creates parsers that convert values with the mapper
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
+    /**
+     * Converts the JSON value at the current token of the given parser to instance of a class, leaving the parser at
+     * the last token of the value
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON value, or null if the value is null
+     * @throws JsonMappingException if the value does not correspond to the structure of the class, in which case the
+     *     parser is left part way through the value
+     * @throws IOException if the value is not valid JSON, or could not be read
+     */
+    public static <T> T fromJsonParser(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Returns a generator of compact JSON data in UTF-8 to the given stream, which writes the values generated to the
+     * stream as they are generated, instead of building the JSON data in memory first.
+     * Objects written with {@link JsonGenerator#writeObject(Object)} are converted as by
+     * {@link #toCompactJsonString(Object)}. Closing the generator also closes the stream.
+     * @param out cannot be null
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        // the factory of the mapper creates generators that convert objects with the mapper
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -111,6 +155,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without any
+     * whitespace between the values.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -51,7 +53,77 @@ public class StringUtil {
         String preppedPhrase = phrase.trim();
         checkArgument(!preppedPhrase.isEmpty(), "Phrase parameter cannot be empty");
 
-        return sentence.toLowerCase().contains(preppedPhrase.toLowerCase());
+        return toSearchForm(sentence).contains(toSearchForm(preppedPhrase));
+    }
+
+    /**
+     * Returns the form of {@code text} that is searched: composed into canonical Unicode form, so that accented
+     * characters typed in different ways are the same, and then lowercased regardless of the default locale.
+     * Searching the search forms of two texts is the same as searching the texts ignoring case.
+     *
+     * @param text cannot be null.
+     */
+    public static String toSearchForm(String text) {
+        requireNonNull(text);
+        String composedText = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFC);
+        return composedText.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits {@code text} into its words, as separated by whitespace, the same way as {@code text.split("\\s+")}
+     * but without using a regular expression: a text starting with whitespace has an empty first word.
+     *
+     * @param text cannot be null.
+     */
+    public static String[] toWords(String text) {
+        requireNonNull(text);
+        int wordCount = 0;
+        boolean isInWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean isWhitespace = isWhitespace(text.charAt(i));
+            if (!isWhitespace && !isInWord) {
+                wordCount++;
+            }
+            isInWord = !isWhitespace;
+        }
+        // as with split, blank text has no words, but empty text is a single empty word
+        boolean hasEmptyFirstWord = text.isEmpty() || (wordCount > 0 && isWhitespace(text.charAt(0)));
+        if (hasEmptyFirstWord) {
+            wordCount++;
+        }
+
+        String[] words = new String[wordCount];
+        int count = 0;
+        if (hasEmptyFirstWord) {
+            words[count++] = "";
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWhitespace = i == text.length() || isWhitespace(text.charAt(i));
+            if (isWhitespace && start >= 0) {
+                words[count++] = text.substring(start, i);
+                start = -1;
+            } else if (!isWhitespace && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \\s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -89,21 +161,25 @@ public class StringUtil {
      * @return The number of edits needed to transform a into b.
      */
     public static int levenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-
-        for (int i = 0; i <= s1.length(); i++) {
-            for (int j = 0; j <= s2.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
-                } else {
-                    int cost = (s1.charAt(i - 1) == s2.charAt(j - 1)) ? 0 : 1;
-                    dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
-                }
-            }
-        }
-        return dp[s1.length()][s2.length()];
+        requireNonNull(s1);
+        requireNonNull(s2);
+        return EditDistance.compute(s1, s2, Math.max(s1.length(), s2.length()));
+    }
+
+    /**
+     * Computes the Levenshtein distance between two strings, but only up to {@code maxDistance}, stopping as soon as
+     * the distance is known to be larger. Allocates nothing when called repeatedly on the same thread.
+     * @param s1 The first string.
+     * @param s2 The second string.
+     * @param maxDistance The largest distance of interest, which cannot be negative.
+     * @return The number of edits needed to transform a into b if it is at most {@code maxDistance},
+     *     or {@code maxDistance + 1} otherwise.
+     */
+    public static int levenshteinDistance(String s1, String s2, int maxDistance) {
+        requireNonNull(s1);
+        requireNonNull(s2);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        return EditDistance.compute(s1, s2, maxDistance);
     }
 
     /**
@@ -117,9 +193,25 @@ public class StringUtil {
      *     {@code false} otherwise.
      */
     public static boolean isSimilar(String fieldValue, String keyword, int threshold) {
-        String[] words = fieldValue.split("\\s+");
+        return isSimilar(toWords(toSearchForm(fieldValue)), toSearchForm(keyword), threshold);
+    }
 
-        return Arrays.stream(words).anyMatch(word ->
-                levenshteinDistance(word.toLowerCase(), keyword.toLowerCase()) <= threshold);
+    /**
+     * Same as {@link #isSimilar(String, String, int)}, but on words and a keyword that are already in their
+     * {@link #toSearchForm(String) search form}, so that nothing is allocated.
+     *
+     * @param words The words of the field value, in their search form.
+     * @param keyword The keyword to compare against the words, in its search form.
+     * @param threshold The maximum allowable Levenshtein distance for a match.
+     * @return {@code true} if any of the words is within the threshold distance from the keyword,
+     *     {@code false} otherwise.
+     */
+    public static boolean isSimilar(String[] words, String keyword, int threshold) {
+        for (String word : words) {
+            if (levenshteinDistance(word, keyword, threshold) <= threshold) {
+                return true;
+            }
+        }
+        return false;
     }
 }
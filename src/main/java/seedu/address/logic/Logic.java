@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * API of the Logic component
@@ -23,6 +27,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the predicate of the find command in {@code commandText}, without executing it, or an empty
+     * {@code Optional} if the text is not a valid find command.
+     */
+    Optional<PersonContainsKeywordsPredicate> parseFindCommand(String commandText);
+
+    /**
+     * Previews the persons that satisfy {@code predicate} in the filtered list of persons.
+     *
+     * @see seedu.address.model.Model#previewFilteredPersonList(Predicate)
+     */
+    void previewFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Stops previewing persons in the filtered list of persons.
+     *
+     * @see seedu.address.model.Model#clearFilteredPersonListPreview()
+     */
+    void clearFilteredPersonListPreview();
+
     /**
      * Returns the AddressBook.
      *
@@ -53,4 +77,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets {@code handler} to be given the error message of every failure to write the address book that happens
+     * after the command that saved it has returned. The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
 }
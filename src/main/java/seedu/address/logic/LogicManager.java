@@ -3,6 +3,9 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,12 +13,14 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.storage.Storage;
 
 /**
@@ -55,15 +60,45 @@ public class LogicManager implements Logic {
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            if (commandResult.isExit()) {
+                // the application only exits once everything saved is written
+                storage.flushAddressBook();
+            }
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(toSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    private static String toSaveErrorMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public Optional<PersonContainsKeywordsPredicate> parseFindCommand(String commandText) {
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            return command instanceof FindCommand
+                    ? Optional.of(((FindCommand) command).getPredicate())
+                    : Optional.empty();
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void previewFilteredPersonList(Predicate<Person> predicate) {
+        model.previewFilteredPersonList(predicate);
+    }
+
+    @Override
+    public void clearFilteredPersonListPreview() {
+        model.clearFilteredPersonListPreview();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -71,7 +106,7 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return model.getDisplayedPersonList();
     }
 
     @Override
@@ -94,4 +129,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setSaveFailureHandler(ioe -> handler.accept(toSaveErrorMessage(ioe)));
+    }
 }
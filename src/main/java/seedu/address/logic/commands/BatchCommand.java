@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Executes a sequence of commands as a single transaction.
+ * Either all the commands take effect, as a single state that can be undone at once, or none of them do.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String COMMAND_SEPARATOR = ";";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes the given commands, separated by \"" + COMMAND_SEPARATOR + "\", in order. "
+            + "If any of the commands fails, none of the commands take effect.\n"
+            + "Parameters: COMMAND" + COMMAND_SEPARATOR + " [MORE_COMMANDS" + COMMAND_SEPARATOR + "]...\n"
+            + "Example: " + COMMAND_WORD + " add n/John Doe p/98765432 e/johnd@example.com a/John street "
+            + COMMAND_SEPARATOR + " pin 1";
+
+    public static final String MESSAGE_COMMAND_FAILED =
+            "Command %1$d of the batch failed, so none of the commands took effect: %2$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a BatchCommand to execute {@code commands} in order.
+     */
+    public BatchCommand(List<Command> commands) {
+        requireNonNull(commands);
+        if (commands.isEmpty()) {
+            throw new IllegalArgumentException("A batch must contain at least one command.");
+        }
+        this.commands = List.copyOf(commands);
+    }
+
+    /**
+     * Executes every command in a single transaction of the model, so that the model is committed once and the
+     * displayed list is updated once. If any command fails, the changes made by the earlier commands are rolled back.
+     *
+     * @return the results of all the commands, with their feedback on separate lines.
+     * @throws CommandException if any of the commands fails.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<CommandResult> results = new ArrayList<>();
+        model.beginTransaction();
+        try {
+            for (Command command : commands) {
+                results.add(command.execute(model));
+            }
+        } catch (CommandException ce) {
+            model.rollbackTransaction();
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, results.size() + 1, ce.getMessage()), ce);
+        } catch (RuntimeException re) {
+            model.rollbackTransaction();
+            throw re;
+        }
+        model.commitTransaction();
+
+        return combine(results);
+    }
+
+    private static CommandResult combine(List<CommandResult> results) {
+        List<String> feedback = new ArrayList<>();
+        boolean showHelp = false;
+        boolean exit = false;
+        for (CommandResult result : results) {
+            feedback.add(result.getFeedbackToUser());
+            showHelp = showHelp || result.isShowHelp();
+            exit = exit || result.isExit();
+        }
+        return new CommandResult(String.join("\n", feedback), showHelp, exit);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commands.equals(otherBatchCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .toString();
+    }
+}
@@ -9,7 +9,7 @@ import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in the address book whose details match any of the specified keywords.
- * The search can be performed on different fields such as name, phone number, email, address, or tags.
+ * The search can be performed on different fields such as name, phone number, email, address, tags, or note.
  * Keyword matching is case-insensitive.
  */
 public class FindCommand extends Command {
@@ -20,16 +20,25 @@ public class FindCommand extends Command {
             + ": Finds all persons whose specified fields contain any of "
             + "the given keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: [n/\"NAME\"] [p/\"PHONE\"] [e/\"EMAIL\"]"
-            + " [a/\"ADDRESS\"] [t/\"TAG\"] \"KEYWORD\" [\"MORE_KEYWORDS\"]...\n"
+            + " [a/\"ADDRESS\"] [t/\"TAG\"] [nt/\"NOTE\"] \"KEYWORD\" [\"MORE_KEYWORDS\"]... [top/COUNT]\n"
             + "Use double quotation marks (\") around multi-word inputs or single keywords to ensure correct parsing.\n"
+            + "Notes are searched for the keywords as whole words, e.g. nt/\"follow up\" finds \"Follow-up call\".\n"
+            + "Use top/ to only list the given number of most relevant persons, from the most relevant.\n"
             + "Example: " + COMMAND_WORD + " n/\"Alice\" \"Bob\" p/\"98765432\" a/\"Bedok Central\" t/\"close friend\"";
 
+    public static final String MESSAGE_INVALID_RANK_LIMIT = "The number of persons after top/ must be a positive "
+            + "integer.";
+
     private final PersonContainsKeywordsPredicate predicate;
 
     public FindCommand(PersonContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
+    public PersonContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -35,6 +35,7 @@ public class HelpCommand extends Command {
         COMMAND_HELP.put(NoteCommand.COMMAND_WORD, NoteCommand.MESSAGE_USAGE);
         COMMAND_HELP.put(ViewNoteCommand.COMMAND_WORD, ViewNoteCommand.MESSAGE_USAGE);
         COMMAND_HELP.put(SortCommand.COMMAND_WORD, SortCommand.MESSAGE_USAGE);
+        COMMAND_HELP.put(BatchCommand.COMMAND_WORD, BatchCommand.MESSAGE_USAGE);
         COMMAND_HELP.put(ListCommand.COMMAND_WORD, "Usage: list\n"
                 + "Lists all contacts in the address book.");
         COMMAND_HELP.put(ExitCommand.COMMAND_WORD, "Usage: exit\n"
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_INVALID_BATCHED_COMMAND = "Command %1$d of the batch is invalid: %2$s";
+
+    public static final String MESSAGE_UNSUPPORTED_BATCHED_COMMAND =
+            "Command %1$d of the batch cannot be used within a batch: %2$s";
+
+    private static final Pattern COMMAND_SEPARATOR = Pattern.compile(Pattern.quote(BatchCommand.COMMAND_SEPARATOR));
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a BatchCommandParser that parses each of the batched commands using {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * Blank commands, e.g. after a trailing separator, are ignored.
+     *
+     * @throws ParseException if the user input does not conform the expected format, or any of the batched commands
+     *     is invalid or cannot be batched.
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        for (String commandText : COMMAND_SEPARATOR.split(args)) {
+            if (commandText.isBlank()) {
+                continue;
+            }
+            commands.add(parseBatchedCommand(commandText, commands.size() + 1));
+        }
+
+        if (commands.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        return new BatchCommand(commands);
+    }
+
+    private Command parseBatchedCommand(String commandText, int position) throws ParseException {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_BATCHED_COMMAND, position, pe.getMessage()), pe);
+        }
+
+        // undoing within a batch would undo commands outside of it, and batches cannot be nested
+        if (command instanceof UndoCommand || command instanceof RedoCommand || command instanceof BatchCommand) {
+            throw new ParseException(String.format(MESSAGE_UNSUPPORTED_BATCHED_COMMAND, position, commandText.trim()));
+        }
+        return command;
+    }
+}
@@ -13,5 +13,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_NOTE = new Prefix("nt/");
     public static final Prefix PREFIX_MASS_OPS = new Prefix("i/");
+    public static final Prefix PREFIX_RANK_LIMIT = new Prefix("top/");
 
 }
@@ -4,7 +4,9 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
@@ -13,6 +15,7 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
@@ -31,13 +34,15 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE,
-                PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+                PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_NOTE, PREFIX_RANK_LIMIT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_RANK_LIMIT);
 
         boolean searchName = argMultimap.getValue(PREFIX_NAME).isPresent();
         boolean searchPhone = argMultimap.getValue(PREFIX_PHONE).isPresent();
         boolean searchEmail = argMultimap.getValue(PREFIX_EMAIL).isPresent();
         boolean searchAddress = argMultimap.getValue(PREFIX_ADDRESS).isPresent();
         boolean searchTags = argMultimap.getValue(PREFIX_TAG).isPresent();
+        boolean searchNote = argMultimap.getValue(PREFIX_NOTE).isPresent();
 
         List<String> keywords = new ArrayList<>();
 
@@ -46,10 +51,11 @@ public class FindCommandParser implements Parser<FindCommand> {
         extractKeywords(argMultimap, PREFIX_EMAIL, searchEmail, keywords);
         extractKeywords(argMultimap, PREFIX_ADDRESS, searchAddress, keywords);
         extractKeywords(argMultimap, PREFIX_TAG, searchTags, keywords);
+        extractKeywords(argMultimap, PREFIX_NOTE, searchNote, keywords);
 
 
         // Default to searching by name if no field is specified
-        if (!searchName && !searchPhone && !searchEmail && !searchAddress && !searchTags) {
+        if (!searchName && !searchPhone && !searchEmail && !searchAddress && !searchTags && !searchNote) {
             searchName = true;
             String preamble = argMultimap.getPreamble().trim();
             if (!preamble.isEmpty()) {
@@ -62,8 +68,25 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        int rankLimit = PersonContainsKeywordsPredicate.UNRANKED;
+        if (argMultimap.getValue(PREFIX_RANK_LIMIT).isPresent()) {
+            rankLimit = parseRankLimit(argMultimap.getValue(PREFIX_RANK_LIMIT).get());
+        }
+
         return new FindCommand(new PersonContainsKeywordsPredicate(keywords, searchName,
-                searchPhone, searchEmail, searchAddress, searchTags));
+                searchPhone, searchEmail, searchAddress, searchTags, searchNote, rankLimit));
+    }
+
+    /**
+     * Parses the number of most relevant persons to list.
+     * @throws ParseException if the number is not a positive integer
+     */
+    private int parseRankLimit(String rankLimit) throws ParseException {
+        String trimmedRankLimit = rankLimit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedRankLimit)) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_RANK_LIMIT);
+        }
+        return Integer.parseInt(trimmedRankLimit);
     }
 
     /**
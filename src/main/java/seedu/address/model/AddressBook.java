@@ -3,10 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.PersonRanking;
+import seedu.address.model.person.SearchResultCache;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -50,13 +55,62 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is itself an {@code AddressBook} or a snapshot of one, its persons are already known to be
+     * unique and are copied over without being revalidated.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+            return;
+        }
+        if (newData instanceof AddressBookSnapshot) {
+            persons.setPersons(((AddressBookSnapshot) newData).getPersons());
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns a snapshot of the current persons in this {@code AddressBook}, taken in constant time.
+     * Later changes to this {@code AddressBook} do not affect the snapshot.
+     */
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), persons.getVersion());
+    }
+
+    //// change recording
+
+    /**
+     * Starts recording the changes made to the persons in this {@code AddressBook}.
+     */
+    public void startRecordingChanges() {
+        persons.startRecordingChanges();
+    }
+
+    /**
+     * Returns the changes made to the persons in this {@code AddressBook} since the changes were last taken.
+     */
+    public List<PersonListChange> takeRecordedChanges() {
+        return persons.takeRecordedChanges();
+    }
+
+    /**
+     * Reverts {@code changes}, which must be the last changes made to this {@code AddressBook}.
+     */
+    public void undoChanges(List<PersonListChange> changes) {
+        persons.undoChanges(changes);
+    }
+
+    /**
+     * Makes {@code changes}, which must be the last changes undone in this {@code AddressBook}, again.
+     */
+    public void redoChanges(List<PersonListChange> changes) {
+        persons.redoChanges(changes);
+    }
+
     //// person-level operations
 
     /**
@@ -111,6 +165,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.unpinPerson(person);
     }
 
+    /**
+     * Returns a predicate equivalent to {@code predicate} that has already found the matching persons in the address
+     * book, without testing every person. Searches that test at least {@code parallelThreshold} persons test them in
+     * parallel.
+     */
+    public Predicate<Person> search(PersonContainsKeywordsPredicate predicate, int parallelThreshold) {
+        return persons.search(predicate, parallelThreshold);
+    }
+
+    /**
+     * Returns the ranking of the persons in the address book that match the ranked {@code predicate}.
+     */
+    public PersonRanking rank(PersonContainsKeywordsPredicate predicate, int parallelThreshold) {
+        return persons.rank(predicate, parallelThreshold);
+    }
+
+    /**
+     * Returns the number of searches of the address book whose results were cached, and of those that were evaluated.
+     */
+    public SearchResultCache.Statistics getSearchResultCacheStatistics() {
+        return persons.getSearchResultCacheStatistics();
+    }
+
     /**
      * Updates the list of persons in the address book by sorting them based on the given prefix.
      *
@@ -122,6 +199,11 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
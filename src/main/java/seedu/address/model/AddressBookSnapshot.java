@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable snapshot of the persons in an {@code AddressBook}.
+ * A snapshot shares its structure with the address book it was taken from, so taking one does not copy any persons.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentPersonList persons;
+    private final long version;
+    private ObservableList<Person> personList;
+
+    /**
+     * Creates a snapshot containing {@code persons}, which are at {@code version} of the address book.
+     */
+    AddressBookSnapshot(PersistentPersonList persons, long version) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.version = version;
+    }
+
+    PersistentPersonList getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons in this snapshot.
+     * The list is only created when it is first requested.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.toList()));
+        }
+        return personList;
+    }
+
+    /**
+     * Returns an iterator over the persons in this snapshot, which does not create the list of them.
+     */
+    @Override
+    public Iterator<Person> personIterator() {
+        return persons.iterator();
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was taken at.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns this snapshot, which is already immutable.
+     */
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -79,6 +79,13 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable view of the filtered person list for the UI to display.
+     * Unlike {@link #getFilteredPersonList()}, the changes made during a transaction are only published to this list
+     * once the transaction ends, as a single change.
+     */
+    ObservableList<Person> getDisplayedPersonList();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      *
@@ -86,6 +93,19 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Filters the filtered person list by the given {@code predicate} as a preview, which is neither recorded by
+     * {@link #commit()} nor undone, and is replaced by the next update of the filtered person list.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void previewFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Filters the filtered person list by the current predicate again, if it is showing a preview.
+     */
+    void clearFilteredPersonListPreview();
+
     /**
      * Adds a past command input to the list of past command inputs.
      *
@@ -167,4 +187,27 @@ public interface Model {
      * Checks if the model has an undone state to redo
      */
     boolean hasRedo();
+
+    /**
+     * Starts a transaction, during which every commit is deferred until the transaction ends.
+     * Any changes not yet committed are committed first, so that only the changes made during the transaction
+     * can be rolled back.
+     *
+     * @throws IllegalStateException if a transaction has already been started.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, committing all the changes made during the transaction as a single state.
+     *
+     * @throws IllegalStateException if no transaction has been started.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction, reverting all the changes made during the transaction.
+     *
+     * @throws IllegalStateException if no transaction has been started.
+     */
+    void rollbackTransaction();
 }
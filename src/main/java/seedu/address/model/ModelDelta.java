@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+
+/**
+ * The changes made to the model by a single commit: the changes made to the persons in the address book,
+ * and the predicate of the filtered list before and after the commit.
+ */
+public class ModelDelta {
+
+    /** Rough number of bytes taken up by a delta, excluding the changes it holds. */
+    private static final long DELTA_OVERHEAD = 48;
+
+    private final List<PersonListChange> personChanges;
+    private final Predicate<Person> previousPredicate;
+    private final Predicate<Person> nextPredicate;
+
+    /**
+     * Creates a ModelDelta using the changes made to the persons, and the predicates before and after the changes.
+     */
+    public ModelDelta(List<PersonListChange> personChanges, Predicate<Person> previousPredicate,
+            Predicate<Person> nextPredicate) {
+        requireAllNonNull(personChanges, previousPredicate, nextPredicate);
+
+        this.personChanges = List.copyOf(personChanges);
+        this.previousPredicate = previousPredicate;
+        this.nextPredicate = nextPredicate;
+    }
+
+    public List<PersonListChange> getPersonChanges() {
+        return personChanges;
+    }
+
+    public Predicate<Person> getPreviousPredicate() {
+        return previousPredicate;
+    }
+
+    public Predicate<Person> getNextPredicate() {
+        return nextPredicate;
+    }
+
+    /**
+     * Returns true if the delta neither changes any person nor the predicate, i.e. there is nothing to undo.
+     */
+    public boolean isEmpty() {
+        return personChanges.isEmpty() && previousPredicate.equals(nextPredicate);
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by this delta.
+     */
+    public long estimateSize() {
+        long size = DELTA_OVERHEAD;
+        for (PersonListChange change : personChanges) {
+            size += change.estimateSize();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModelDelta)) {
+            return false;
+        }
+
+        ModelDelta otherModelDelta = (ModelDelta) other;
+        return personChanges.equals(otherModelDelta.personChanges)
+                && previousPredicate.equals(otherModelDelta.previousPredicate)
+                && nextPredicate.equals(otherModelDelta.nextPredicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personChanges, previousPredicate, nextPredicate);
+    }
+}
@@ -4,17 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.DisplayedPersonList;
 import seedu.address.model.person.FilteredPersonList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,14 +23,14 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
     private final CommandHistory commandHistory;
-    private final ObservableList<Person> personList;
-    private final SortedList<Person> sortedFilteredPersons;
     private Predicate<Person> currentPredicate;
-    private final ArrayList<ModelState> stateHistory;
-    private int currentStatePointer;
-
+    private Predicate<Person> committedPredicate;
+    private final UndoHistory undoHistory;
+    private final DisplayedPersonList displayedPersons;
+    private boolean isInTransaction;
+    private boolean isPreviewing;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -43,22 +42,18 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        // the persons are filtered, sorted and displayed by a single pipeline, which is only ever updated in place
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList());
         commandHistory = new CommandHistory();
-        this.personList = addressBook.getPersonList();
-        sortedFilteredPersons = new SortedList<>(filteredPersons);
-
-        stateHistory = new ArrayList<>();
+        displayedPersons = new DisplayedPersonList(filteredPersons.getSortedList());
 
         // initialise the current predicate by default
         currentPredicate = PREDICATE_SHOW_ALL_PERSONS;
+        committedPredicate = currentPredicate;
 
-        // create default model state
-        ModelState initState = new ModelState(addressBook, currentPredicate);
-
-        stateHistory.add(initState);
-
-        currentStatePointer = 0;
+        // only the changes made from now on can be undone
+        undoHistory = new UndoHistory(this.userPrefs.getUndoHistoryMemoryBudget());
+        this.addressBook.startRecordingChanges();
     }
 
     /**
@@ -74,6 +69,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        undoHistory.setMemoryBudget(this.userPrefs.getUndoHistoryMemoryBudget());
     }
 
     @Override
@@ -179,11 +175,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return filteredPersons.getSortedList();
+    }
+
+    @Override
+    public ObservableList<Person> getDisplayedPersonList() {
+        return displayedPersons.asUnmodifiableObservableList();
     }
 
     /**
      * Updates the filtered person list based on the specified predicate.
+     * The persons matching a keyword search are found using the search index of the address book, so that the filtered
+     * list only has to look up whether each person matches. Large searches test the persons in parallel, and the
+     * filtered list is still only changed once, when all of them are tested. The matches of a ranked search are also
+     * limited to the most relevant ones, and sorted from the most relevant. Repeating a search, e.g. by undoing or
+     * redoing a find, reuses its matches if the address book has not changed since.
      *
      * @param predicate The predicate to filter the persons.
      */
@@ -192,7 +198,34 @@ public class ModelManager implements Model {
         requireNonNull(predicate);
 
         currentPredicate = predicate;
-        filteredPersons.setPredicate(predicate);
+        isPreviewing = false;
+        if (!(predicate instanceof PersonContainsKeywordsPredicate)) {
+            filteredPersons.filterBy(predicate);
+            return;
+        }
+
+        PersonContainsKeywordsPredicate keywordsPredicate = (PersonContainsKeywordsPredicate) predicate;
+        int parallelSearchThreshold = userPrefs.getParallelSearchThreshold();
+        if (keywordsPredicate.isRanked()) {
+            filteredPersons.rankBy(addressBook.rank(keywordsPredicate, parallelSearchThreshold));
+        } else {
+            filteredPersons.filterBy(addressBook.search(keywordsPredicate, parallelSearchThreshold));
+        }
+        logger.fine("Search result cache: " + addressBook.getSearchResultCacheStatistics());
+    }
+
+    @Override
+    public void previewFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        filteredPersons.filterBy(predicate);
+        isPreviewing = true;
+    }
+
+    @Override
+    public void clearFilteredPersonListPreview() {
+        if (isPreviewing) {
+            updateFilteredPersonList(currentPredicate);
+        }
     }
 
     @Override
@@ -223,6 +256,8 @@ public class ModelManager implements Model {
     /**
      * Updates the sorted person list based on the given prefix. The prefix is used to
      * filter the list of persons in the address book and sort the resulting filtered list.
+     * As the persons in the address book are already sorted by {@link #updateSortedPersonList(String...)}, with the
+     * pinned persons first, the filtered list keeps their order instead of sorting them again.
      *
      * @param prefix The string prefix used to filter and sort the person list.
      * @throws NullPointerException if prefix is null.
@@ -231,88 +266,122 @@ public class ModelManager implements Model {
     public void updateSortedFilteredPersonList(String... prefix) {
         requireNonNull(prefix);
 
-        filteredPersons.setPredicate(currentPredicate);
-        FilteredPersonList filteredPersonList = new FilteredPersonList(filteredPersons);
-        filteredPersonList.sortByFilteredList(prefix);
+        updateFilteredPersonList(currentPredicate);
+        filteredPersons.keepSourceOrder();
     }
 
+    /**
+     * Records the changes made since the last commit as a single delta that can be undone.
+     * Nothing is recorded if neither the persons nor the predicate were changed, e.g. by a read-only command.
+     * During a transaction, the changes are only recorded once the transaction is committed.
+     */
     @Override
     public void commit() {
-        ModelState newState = new ModelState(new AddressBook(addressBook), currentPredicate);
+        if (isInTransaction) {
+            logger.fine("Deferred the commit until the end of the transaction");
+            return;
+        }
 
-        // commit current predicate
-        removeAheadCurrent();
-        stateHistory.add(newState);
-        currentStatePointer += 1;
+        ModelDelta delta = new ModelDelta(addressBook.takeRecordedChanges(), committedPredicate, currentPredicate);
+        committedPredicate = currentPredicate;
+        if (delta.isEmpty()) {
+            logger.fine("Nothing to commit as the model state is unchanged");
+            return;
+        }
 
+        undoHistory.record(delta);
         logger.fine("Successfully committed the model state");
     }
 
     @Override
     public void undo() {
-
         // must have a last state to be undoable
         // this is the responsibility of the person using this function
         // throw unchecked error if not ensured
-        if (currentStatePointer - 1 < 0) {
+        if (!hasUndo()) {
             throw new IndexOutOfBoundsException();
         }
-        currentStatePointer -= 1;
-
-        // get state
-        ModelState pastState = stateHistory.get(currentStatePointer);
-        requireNonNull(pastState);
+        discardUncommittedChanges();
 
-        // set state
-        addressBook.resetData(pastState.getAddressBookState());
-        updateFilteredPersonList(pastState.getPredicate());
+        ModelDelta delta = undoHistory.undo();
+        addressBook.undoChanges(delta.getPersonChanges());
+        updateFilteredPersonList(delta.getPreviousPredicate());
+        committedPredicate = currentPredicate;
 
         logger.fine("Successfully undone the model state");
     }
+
     @Override
     public void redo() {
         // must have a undone state to be able to be redone
         // this is the responsibility of the person using this function
         // throw unchecked error if not ensured
-        if (currentStatePointer + 1 >= stateHistory.size()) {
+        if (!hasRedo()) {
             throw new IndexOutOfBoundsException();
         }
+        discardUncommittedChanges();
 
-        currentStatePointer += 1;
-
-        // get state
-        ModelState nextState = stateHistory.get(currentStatePointer);
-        requireNonNull(nextState);
-
-        // set state
-        addressBook.resetData(nextState.getAddressBookState());
-        updateFilteredPersonList(nextState.getPredicate());
+        ModelDelta delta = undoHistory.redo();
+        addressBook.redoChanges(delta.getPersonChanges());
+        updateFilteredPersonList(delta.getNextPredicate());
+        committedPredicate = currentPredicate;
 
         logger.fine("Successfully redone the undone model state");
     }
 
     /**
-     * Removes all model states ahead of the current state
+     * Reverts the changes made since the last commit, so that the model is in the state the history expects.
      */
-    private void removeAheadCurrent() {
-        int curSize = stateHistory.size();
+    private void discardUncommittedChanges() {
+        addressBook.undoChanges(addressBook.takeRecordedChanges());
+        updateFilteredPersonList(committedPredicate);
+    }
 
-        // remove AddressBooks ahead of the current book until none left
-        for (int i = currentStatePointer + 1; i < curSize; i++) {
-            stateHistory.remove(currentStatePointer + 1);
+    @Override
+    public void beginTransaction() {
+        if (isInTransaction) {
+            throw new IllegalStateException("A transaction has already been started.");
         }
+        commit();
+        isInTransaction = true;
+        displayedPersons.deferChanges();
+    }
+
+    @Override
+    public void commitTransaction() {
+        endTransaction();
+        commit();
+        displayedPersons.publishChanges();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        endTransaction();
+        discardUncommittedChanges();
+        displayedPersons.publishChanges();
+    }
 
-        assert currentStatePointer == stateHistory.size() - 1;
+    private void endTransaction() {
+        if (!isInTransaction) {
+            throw new IllegalStateException("No transaction has been started.");
+        }
+        isInTransaction = false;
     }
 
+    /**
+     * Returns true if there is a state to undo. Nothing can be undone during a transaction.
+     */
     @Override
     public boolean hasUndo() {
-        return currentStatePointer - 1 >= 0;
+        return !isInTransaction && undoHistory.hasUndo();
     }
 
+    /**
+     * Returns true if there is an undone state to redo. Nothing can be redone during a transaction.
+     */
     @Override
     public boolean hasRedo() {
-        return currentStatePointer + 1 < stateHistory.size();
+        return !isInTransaction && undoHistory.hasRedo();
     }
 
     @Override
@@ -329,10 +398,8 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                //&& filteredPersons.equals(otherModelManager.filteredPersons);
-                && sortedFilteredPersons.equals(otherModelManager.sortedFilteredPersons)
+                && filteredPersons.getSortedList().equals(otherModelManager.filteredPersons.getSortedList())
                 && currentPredicate.equals(otherModelManager.currentPredicate)
-                && currentStatePointer == otherModelManager.currentStatePointer
-                && stateHistory.equals(otherModelManager.stateHistory);
+                && undoHistory.equals(otherModelManager.undoHistory);
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Iterator;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +16,27 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an iterator over the persons in this address book, in the order of {@link #getPersonList()}.
+     * Unlike {@code getPersonList()}, it does not need to hold the persons in a list, e.g. to write them one by one.
+     */
+    default Iterator<Person> personIterator() {
+        return getPersonList().iterator();
+    }
+
+    /**
+     * Returns the version of the persons in this address book, which increases whenever they are changed.
+     * Versions are not shared between address books that were changed separately, so the version tells whether the
+     * persons have changed since it was last seen, e.g. by a cache or since the address book was last saved.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable snapshot of the persons in this address book, which later changes to it do not affect.
+     * The persons are copied into the snapshot unless the address book can take one without copying them.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBook(this);
+    }
+
 }
@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    long getUndoHistoryMemoryBudget();
+
+    int getParallelSearchThreshold();
+
 }
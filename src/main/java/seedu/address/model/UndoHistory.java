@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The history of the deltas committed to the model, which can be undone and redone in turn.
+ * The deltas are kept within a memory budget by forgetting the oldest deltas once the budget is exceeded,
+ * although the latest delta is always kept so that it can be undone.
+ */
+public class UndoHistory {
+
+    private final List<ModelDelta> deltas = new ArrayList<>();
+    private long memoryBudget;
+    private long size;
+
+    /** Number of deltas that are currently applied, i.e. the position of the next delta to redo. */
+    private int currentDeltaPointer;
+
+    /**
+     * Creates an empty history that takes up at most about {@code memoryBudget} bytes.
+     */
+    public UndoHistory(long memoryBudget) {
+        setMemoryBudget(memoryBudget);
+    }
+
+    /**
+     * Sets the approximate number of bytes the history may take up, forgetting the oldest deltas if needed.
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Memory budget must not be negative.");
+        }
+        this.memoryBudget = memoryBudget;
+        trimToBudget();
+    }
+
+    /**
+     * Adds {@code delta} as the latest delta, discarding every delta that has been undone but not redone.
+     */
+    public void record(ModelDelta delta) {
+        requireNonNull(delta);
+
+        while (deltas.size() > currentDeltaPointer) {
+            size -= deltas.remove(deltas.size() - 1).estimateSize();
+        }
+        deltas.add(delta);
+        size += delta.estimateSize();
+        currentDeltaPointer += 1;
+        trimToBudget();
+    }
+
+    public boolean hasUndo() {
+        return currentDeltaPointer > 0;
+    }
+
+    public boolean hasRedo() {
+        return currentDeltaPointer < deltas.size();
+    }
+
+    /**
+     * Returns the latest applied delta, which the caller must then revert.
+     *
+     * @throws IndexOutOfBoundsException if there is no delta to undo.
+     */
+    public ModelDelta undo() {
+        if (!hasUndo()) {
+            throw new IndexOutOfBoundsException();
+        }
+        currentDeltaPointer -= 1;
+        return deltas.get(currentDeltaPointer);
+    }
+
+    /**
+     * Returns the earliest undone delta, which the caller must then apply again.
+     *
+     * @throws IndexOutOfBoundsException if there is no delta to redo.
+     */
+    public ModelDelta redo() {
+        if (!hasRedo()) {
+            throw new IndexOutOfBoundsException();
+        }
+        currentDeltaPointer += 1;
+        return deltas.get(currentDeltaPointer - 1);
+    }
+
+    /**
+     * Returns the approximate number of bytes taken up by the deltas in the history.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Forgets the oldest applied deltas until the history fits within its budget, keeping the latest delta.
+     * Undone deltas are forgotten only when a new delta is recorded, so that they can still be redone.
+     */
+    private void trimToBudget() {
+        int forgottenCount = 0;
+        while (size > memoryBudget && forgottenCount < currentDeltaPointer - 1) {
+            size -= deltas.get(forgottenCount).estimateSize();
+            forgottenCount++;
+        }
+        deltas.subList(0, forgottenCount).clear();
+        currentDeltaPointer -= forgottenCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistory)) {
+            return false;
+        }
+
+        UndoHistory otherUndoHistory = (UndoHistory) other;
+        return currentDeltaPointer == otherUndoHistory.currentDeltaPointer
+                && deltas.equals(otherUndoHistory.deltas);
+    }
+
+    @Override
+    public int hashCode() {
+        return deltas.hashCode();
+    }
+}
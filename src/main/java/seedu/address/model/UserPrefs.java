@@ -13,8 +13,16 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Default number of bytes the undo history may take up. */
+    public static final long DEFAULT_UNDO_HISTORY_MEMORY_BUDGET = 16L * 1024 * 1024;
+
+    /** Default number of persons from which a search tests the persons in parallel. */
+    public static final int DEFAULT_PARALLEL_SEARCH_THRESHOLD = 50_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private long undoHistoryMemoryBudget = DEFAULT_UNDO_HISTORY_MEMORY_BUDGET;
+    private int parallelSearchThreshold = DEFAULT_PARALLEL_SEARCH_THRESHOLD;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryMemoryBudget(newUserPrefs.getUndoHistoryMemoryBudget());
+        setParallelSearchThreshold(newUserPrefs.getParallelSearchThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,35 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    /**
+     * Sets the approximate number of bytes the undo history may take up.
+     * Once the budget is exceeded, the oldest commands can no longer be undone.
+     */
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        if (undoHistoryMemoryBudget < 0) {
+            throw new IllegalArgumentException("Undo history memory budget must not be negative.");
+        }
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
+    public int getParallelSearchThreshold() {
+        return parallelSearchThreshold;
+    }
+
+    /**
+     * Sets the number of persons to be tested by a search from which they are tested in parallel.
+     */
+    public void setParallelSearchThreshold(int parallelSearchThreshold) {
+        if (parallelSearchThreshold < 0) {
+            throw new IllegalArgumentException("Parallel search threshold must not be negative.");
+        }
+        this.parallelSearchThreshold = parallelSearchThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +108,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryMemoryBudget == otherUserPrefs.undoHistoryMemoryBudget
+                && parallelSearchThreshold == otherUserPrefs.parallelSearchThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryMemoryBudget, parallelSearchThreshold);
     }
 
     @Override
@@ -82,6 +123,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history memory budget : " + undoHistoryMemoryBudget);
+        sb.append("\nParallel search threshold : " + parallelSearchThreshold);
         return sb.toString();
     }
 
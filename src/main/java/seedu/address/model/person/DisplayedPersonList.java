@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A list of persons that mirrors a source list, for the UI to display.
+ * Changes to the source list are mirrored as they happen, unless they are deferred, in which case all the changes
+ * made in the meantime are published as a single change once they are no longer deferred.
+ */
+public class DisplayedPersonList {
+
+    private final ObservableList<Person> source;
+    private final ObservableList<Person> displayedList = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableDisplayedList =
+            FXCollections.unmodifiableObservableList(displayedList);
+    private boolean isDeferred;
+    private boolean isStale;
+
+    /**
+     * Creates a list mirroring {@code source}.
+     */
+    public DisplayedPersonList(ObservableList<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+        displayedList.setAll(source);
+        source.addListener(this::mirror);
+    }
+
+    /**
+     * Returns the mirrored list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiableDisplayedList;
+    }
+
+    /**
+     * Stops mirroring the changes to the source list until {@link #publishChanges()} is called.
+     */
+    public void deferChanges() {
+        isDeferred = true;
+    }
+
+    /**
+     * Resumes mirroring the changes to the source list, first publishing the changes deferred so far, if any,
+     * as a single change.
+     */
+    public void publishChanges() {
+        isDeferred = false;
+        if (!isStale) {
+            return;
+        }
+        isStale = false;
+
+        // the deferred changes may have cancelled out, e.g. if they were rolled back
+        if (!isSameAsSource()) {
+            displayedList.setAll(source);
+        }
+    }
+
+    private void mirror(ListChangeListener.Change<? extends Person> change) {
+        if (isDeferred) {
+            isStale = true;
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                displayedList.setAll(source);
+                return;
+            }
+            if (change.wasUpdated()) {
+                continue;
+            }
+
+            int from = change.getFrom();
+            List<? extends Person> added = change.getAddedSubList();
+            if (change.wasReplaced() && change.getRemovedSize() == added.size()) {
+                for (int i = 0; i < added.size(); i++) {
+                    displayedList.set(from + i, added.get(i));
+                }
+                continue;
+            }
+            if (change.wasRemoved()) {
+                displayedList.remove(from, from + change.getRemovedSize());
+            }
+            if (change.wasAdded()) {
+                displayedList.addAll(from, added);
+            }
+        }
+    }
+
+    private boolean isSameAsSource() {
+        if (displayedList.size() != source.size()) {
+            return false;
+        }
+        for (int i = 0; i < source.size(); i++) {
+            if (displayedList.get(i) != source.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -74,7 +74,8 @@ public class Email {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // consistent with equals, which ignores case
+        return value.toLowerCase().hashCode();
     }
 
 }
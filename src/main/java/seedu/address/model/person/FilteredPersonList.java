@@ -1,7 +1,8 @@
 package seedu.address.model.person;
 
-import java.math.BigInteger;
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -10,12 +11,17 @@ import javafx.collections.transformation.SortedList;
 /**
  * Represents a filtered and sorted list of Persons, provides methods to filter and sort a list of persons
  * based on various attributes.
+ * The list is a single pipeline that first filters and then sorts its source list. Filtering and sorting replace the
+ * predicate and comparator of the pipeline in place, so the list only ever adds two listeners to its source list.
+ * A ranking sets both, and is undone by the next filter or sort.
  */
 public class FilteredPersonList {
 
-    private FilteredList<Person> filteredList;
+    private final FilteredList<Person> filteredList;
+
+    private final SortedList<Person> sortedList;
 
-    private SortedList<Person> sortedList;
+    private boolean isRanked;
 
     /**
      * Initializes a FilteredPersonList with the given source list of persons.
@@ -37,140 +43,86 @@ public class FilteredPersonList {
     }
 
     /**
-     * Sorts the list of persons based on the specified prefix such as name, phone number, email address, address, tags.
-     *
-     * @param prefixes The prefix indicates the sorting criteria.
+     * Filters the list to the persons that satisfy {@code predicate}, replacing any previous filter.
+     * If the list was ranked, its persons are back in the same order as in the source list.
      */
-    public void sortByFilteredList(String... prefixes) {
-        if (prefixes.length == 1) {
-            sortBySinglePrefix(prefixes[0]);
-        } else if (prefixes.length == 2 && prefixes[0].equals("t/")) {
-            sortByTagsCombination(prefixes[1]);
-        } else if (prefixes.length > 2) {
-            throw new IllegalArgumentException("Invalid number of prefixes.");
-        } else {
-            throw new IllegalArgumentException("Invalid combination of prefixes.");
+    public void filterBy(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        filteredList.setPredicate(predicate);
+        if (isRanked) {
+            keepSourceOrder();
         }
     }
 
     /**
-     * Sorts the list based on a single prefix.
-     *
-     * @param prefix The prefix indicating the sorting criteria.
-     * @throws IllegalArgumentException If the provided prefix is invalid or unrecognized.
+     * Filters the list to the persons passed by {@code ranking}, in their order of relevance.
      */
-    private void sortBySinglePrefix(String prefix) {
-        switch (prefix) {
-        case "t/":
-            sortByTags();
-            break;
-        case "n/":
-            sortByName();
-            break;
-        case "p/":
-            sortByPhoneNumber();
-            break;
-        case "e/":
-            sortByEmailAddress();
-            break;
-        case "a/":
-            sortByAddress();
-            break;
-        default:
-            throw new IllegalArgumentException("Invalid sort prefix.");
-        }
+    public void rankBy(PersonRanking ranking) {
+        requireNonNull(ranking);
+        filteredList.setPredicate(ranking);
+        sortedList.setComparator(ranking.comparator());
+        isRanked = true;
     }
 
     /**
-     * Sorts the list by a specified attribute within the tag grouping. The first prefix is "t/" to indicate
-     * sorting by tags, and the second prefix indicates the attribute to sort within each tag group.
+     * Stops sorting the list, so that the persons that pass the filter are in the same order as in the source list.
+     */
+    public void keepSourceOrder() {
+        sortedList.setComparator(null);
+        isRanked = false;
+    }
+
+    /**
+     * Sorts the list of persons based on the specified prefix such as name, phone number, email address, address, tags.
      *
-     * @param secondPrefix The second prefix indicating the sorting criteria within the tags.
-     * @throws IllegalArgumentException If the combination of prefixes is invalid or unrecognized.
+     * @param prefixes The prefix indicates the sorting criteria.
+     * @throws IllegalArgumentException If the prefixes do not describe a valid sort order.
      */
-    private void sortByTagsCombination(String secondPrefix) {
-        switch (secondPrefix) {
-        case "n/":
-            sortByNameWithinTagsFiltered();
-            break;
-        case "p/":
-            sortByPhoneNumberWithinTagsFiltered();
-            break;
-        case "e/":
-            sortByEmailAddressWithinTagsFiltered();
-            break;
-        case "a/":
-            sortByAddressWithinTagsFiltered();
-            break;
-        default:
-            throw new IllegalArgumentException("Invalid combination of prefixes.");
-        }
+    public void sortByFilteredList(String... prefixes) {
+        sortBy(PersonSortOrder.of(prefixes));
     }
 
     /**
      * Sort the list by name.
      */
     public void sortByName() {
-        sortedList.setComparator(Comparator.comparing(p -> p.getName().toString()));
+        sortBy(PersonSortOrder.of(PersonSortOrder.Field.NAME));
     }
 
     /**
      * Sort the list by phone number.
      */
     public void sortByPhoneNumber() {
-        sortedList.setComparator(Comparator.comparing(p -> new BigInteger(p.getPhone().toString())));
+        sortBy(PersonSortOrder.of(PersonSortOrder.Field.PHONE));
     }
 
     /**
      * Sort the list by email address.
      */
     public void sortByEmailAddress() {
-        sortedList.setComparator(Comparator.comparing(p -> p.getEmail().toString()));
+        sortBy(PersonSortOrder.of(PersonSortOrder.Field.EMAIL));
     }
 
     /**
      * Sort the list by address.
      */
     public void sortByAddress() {
-        sortedList.setComparator(Comparator.comparing(p -> p.getAddress().toString()));
+        sortBy(PersonSortOrder.of(PersonSortOrder.Field.ADDRESS));
     }
 
     /**
      * Sort the list by tags.
      */
     public void sortByTags() {
-        sortedList.setComparator(Comparator.comparing(p -> p.getTags().toString()));
-    }
-
-    /**
-     * Sort the list first by tags, then by name within each tag group.
-     */
-    private void sortByNameWithinTagsFiltered() {
-        sortedList.setComparator(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getName().toString()));
-    }
-
-    /**
-     * Sort the list first by tags, then by phone number within each tag group.
-     */
-    private void sortByPhoneNumberWithinTagsFiltered() {
-        sortedList.setComparator(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> new BigInteger(p.getPhone().toString())));
-    }
-
-    /**
-     * Sort the list first by tags, then by email address within each tag group.
-     */
-    private void sortByEmailAddressWithinTagsFiltered() {
-        sortedList.setComparator(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getEmail().toString()));
+        sortBy(PersonSortOrder.of(PersonSortOrder.Field.TAG));
     }
 
     /**
-     * Sort the list first by tags, then by address within each tag group.
+     * Sorts the list in the given {@code order}, with the sort keys of the persons currently in the list computed
+     * once upfront rather than on every comparison.
      */
-    private void sortByAddressWithinTagsFiltered() {
-        sortedList.setComparator(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getAddress().toString()));
+    private void sortBy(PersonSortOrder order) {
+        sortedList.setComparator(order.comparatorFor(filteredList));
+        isRanked = false;
     }
 }
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Finds the persons whose searched fields contain any of the keywords of a search while it is being typed, in a
+ * snapshot of the persons taken when the search is created, so that it can run off the JavaFX thread.
+ *
+ * Only the exact matches are found, as only they can be refined: if every keyword of a query contains a keyword of the
+ * previous query, every person matching the query also matched the previous one, so only the persons found for the
+ * previous query are tested again. Approximate matches cannot be refined this way, as extending a keyword can bring it
+ * within the maximum edit distance of words it was not close to before.
+ *
+ * A search is not thread-safe, and must only be used by one thread at a time.
+ */
+public class IncrementalPersonSearch {
+
+    /** Number of persons tested between two checks of whether the search is cancelled. */
+    private static final int PERSONS_PER_CANCELLATION_CHECK = 1024;
+
+    private final List<Person> persons;
+    private PersonContainsKeywordsPredicate lastPredicate;
+    private List<Person> lastMatches;
+
+    /**
+     * Creates a search of a snapshot of {@code persons}.
+     */
+    public IncrementalPersonSearch(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = new ArrayList<>(persons);
+    }
+
+    /**
+     * Returns the persons that match {@code predicate} exactly, in the order of the snapshot, or an empty
+     * {@code Optional} if {@code isCancelled} returns true before they are all found. A cancelled search leaves the
+     * persons found for the previous query to be refined by the next one.
+     */
+    public Optional<List<Person>> search(PersonContainsKeywordsPredicate predicate, BooleanSupplier isCancelled) {
+        requireAllNonNull(predicate, isCancelled);
+        List<Person> candidates = lastPredicate != null && predicate.hasNarrowerExactMatchesThan(lastPredicate)
+                ? lastMatches
+                : persons;
+
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % PERSONS_PER_CANCELLATION_CHECK == 0 && isCancelled.getAsBoolean()) {
+                return Optional.empty();
+            }
+            Person candidate = candidates.get(i);
+            if (predicate.matchesExactly(candidate)) {
+                matches.add(candidate);
+            }
+        }
+
+        lastPredicate = predicate;
+        lastMatches = matches;
+        return Optional.of(Collections.unmodifiableList(matches));
+    }
+}
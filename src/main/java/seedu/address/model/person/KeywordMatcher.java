@@ -0,0 +1,151 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * An Aho-Corasick automaton of a set of keywords, which finds whether a text contains any of the keywords in a single
+ * pass over the text, however many keywords there are.
+ *
+ * The states of the automaton are the prefixes of the keywords, and every transition, including those that follow the
+ * failure links of the states, is resolved when the automaton is compiled, so that scanning a text looks up one
+ * transition per character. Transitions are kept in a table with a column for each distinct character of the keywords;
+ * characters that are in no keyword lead back to the initial state without a lookup.
+ * A single keyword is looked for with {@code String#contains} instead, which is faster for one keyword.
+ * Keywords are matched as given, so they and the texts must already be in the same case.
+ */
+final class KeywordMatcher {
+
+    private static final int ASCII_SIZE = 128;
+    private static final int NO_COLUMN = -1;
+
+    /** The column of each ASCII character in the transition table. */
+    private final int[] asciiColumns = new int[ASCII_SIZE];
+
+    /** The other characters of the keywords, sorted, and their columns in the transition table. */
+    private final char[] otherChars;
+    private final int[] otherColumns;
+
+    private final int columnCount;
+
+    /** The keyword, if there is only one, or null. */
+    private final String singleKeyword;
+
+    /** The state that follows each state on the character of each column. */
+    private final int[] transitions;
+
+    /** Whether reaching each state means that a keyword has been found. */
+    private final boolean[] isAccepting;
+
+    /**
+     * Compiles an automaton that finds any of {@code keywords}. Empty keywords are found in every text.
+     */
+    KeywordMatcher(String... keywords) {
+        requireNonNull(keywords);
+        singleKeyword = keywords.length == 1 ? requireNonNull(keywords[0]) : null;
+        Arrays.fill(asciiColumns, NO_COLUMN);
+        int nextColumn = 0;
+        char[] others = new char[0];
+        int maxStateCount = 1;
+        for (String keyword : keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c < ASCII_SIZE) {
+                    if (asciiColumns[c] == NO_COLUMN) {
+                        asciiColumns[c] = nextColumn++;
+                    }
+                } else if (Arrays.binarySearch(others, c) < 0) {
+                    others = Arrays.copyOf(others, others.length + 1);
+                    others[others.length - 1] = c;
+                    Arrays.sort(others);
+                }
+            }
+            maxStateCount += keyword.length();
+        }
+        otherChars = others;
+        otherColumns = new int[others.length];
+        for (int i = 0; i < others.length; i++) {
+            otherColumns[i] = nextColumn++;
+        }
+        columnCount = nextColumn;
+
+        int[] trie = new int[maxStateCount * columnCount];
+        boolean[] accepting = new boolean[maxStateCount];
+        int stateCount = 1;
+        for (String keyword : keywords) {
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int cell = state * columnCount + columnOf(keyword.charAt(i));
+                if (trie[cell] == 0) {
+                    trie[cell] = stateCount++;
+                }
+                state = trie[cell];
+            }
+            accepting[state] = true;
+        }
+        transitions = Arrays.copyOf(trie, stateCount * columnCount);
+        isAccepting = Arrays.copyOf(accepting, stateCount);
+        resolveFailures(stateCount);
+    }
+
+    /**
+     * Replaces the missing transitions of the trie by the transitions of the failure states, breadth first, so that
+     * the failure state of every state is resolved before the states below it. A state also accepts if its failure
+     * state does, as the keyword found there is a suffix of the text scanned so far.
+     */
+    private void resolveFailures(int stateCount) {
+        int[] failures = new int[stateCount];
+        Deque<Integer> states = new ArrayDeque<>();
+        for (int column = 0; column < columnCount; column++) {
+            int child = transitions[column];
+            if (child != 0) {
+                states.add(child);
+            }
+        }
+        while (!states.isEmpty()) {
+            int state = states.remove();
+            isAccepting[state] |= isAccepting[failures[state]];
+            for (int column = 0; column < columnCount; column++) {
+                int cell = state * columnCount + column;
+                int failureNext = transitions[failures[state] * columnCount + column];
+                if (transitions[cell] == 0) {
+                    transitions[cell] = failureNext;
+                } else {
+                    failures[transitions[cell]] = failureNext;
+                    states.add(transitions[cell]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords.
+     */
+    boolean occursIn(String text) {
+        if (singleKeyword != null) {
+            return text.contains(singleKeyword);
+        } else if (isAccepting[0]) {
+            return true;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int column = columnOf(text.charAt(i));
+            state = column == NO_COLUMN ? 0 : transitions[state * columnCount + column];
+            if (isAccepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int columnOf(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiColumns[c];
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index >= 0 ? otherColumns[index] : NO_COLUMN;
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A positional inverted index of the words of the notes of the persons in a {@code PersonSearchIndex}, which finds
+ * the notes containing a phrase without scanning every note.
+ *
+ * The words of a note are its runs of letters and digits, in their search form. Every word is mapped to the slots of
+ * the persons whose notes contain it, and for each slot, to the positions of the word in the note, so a phrase is
+ * found by looking up the positions of its first word that are followed by the rest of its words.
+ * Only the first {@value #MAX_INDEXED_WORDS} words of each note are indexed, so that the index takes up a bounded
+ * amount of memory per person however long the notes are. The slots of longer notes are kept apart, and those notes
+ * are scanned for a phrase instead.
+ *
+ * Like the {@code PersonSearchIndex} that keeps it, the index never forgets a slot, and the slots of removed persons
+ * must be masked out of the slots it finds.
+ */
+final class NoteIndex {
+
+    /** Number of words of each note that are indexed. */
+    static final int MAX_INDEXED_WORDS = 4096;
+
+    private final Map<String, Postings> postingsByWord = new HashMap<>();
+    private final BitSet truncatedSlots = new BitSet();
+
+    /**
+     * Indexes the words of {@code note}, which must be in its search form, as the note of the person in {@code slot}.
+     * The slot must be greater than every slot indexed before.
+     */
+    void add(int slot, String note) {
+        requireNonNull(note);
+        List<String> words = toWords(note);
+        int indexedWordCount = Math.min(words.size(), MAX_INDEXED_WORDS);
+        for (int position = 0; position < indexedWordCount; position++) {
+            postingsByWord.computeIfAbsent(words.get(position), word -> new Postings()).add(slot, position);
+        }
+        if (words.size() > MAX_INDEXED_WORDS) {
+            truncatedSlots.set(slot);
+        }
+    }
+
+    void clear() {
+        postingsByWord.clear();
+        truncatedSlots.clear();
+    }
+
+    /**
+     * Sets the slots of the notes whose indexed words contain {@code phrase} in {@code matches}, and the slots of
+     * the notes that are too long to be fully indexed, which must be scanned for the phrase, in {@code unindexed}.
+     * An empty phrase is found in no note.
+     */
+    void find(String[] phrase, BitSet matches, BitSet unindexed) {
+        requireNonNull(phrase);
+        if (phrase.length == 0) {
+            return;
+        }
+        unindexed.or(truncatedSlots);
+
+        Postings[] postings = new Postings[phrase.length];
+        for (int i = 0; i < phrase.length; i++) {
+            postings[i] = postingsByWord.get(phrase[i]);
+            if (postings[i] == null) {
+                return;
+            }
+        }
+
+        // the entries of the later words are searched from where the entry of the previous slot was found, as the
+        // slots of every word are in increasing order
+        int[] starts = new int[phrase.length];
+        Postings first = postings[0];
+        for (int entry = 0; entry < first.size; entry++) {
+            int slot = first.slots[entry];
+            int[] entries = new int[phrase.length];
+            entries[0] = entry;
+            boolean isInAll = true;
+            for (int i = 1; i < phrase.length && isInAll; i++) {
+                int found = Arrays.binarySearch(postings[i].slots, starts[i], postings[i].size, slot);
+                isInAll = found >= 0;
+                starts[i] = isInAll ? found + 1 : -found - 1;
+                entries[i] = found;
+            }
+            if (isInAll && hasConsecutivePositions(postings, entries)) {
+                matches.set(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the words, whose entries for a slot are given by {@code entries}, are at consecutive positions
+     * of the note somewhere.
+     */
+    private static boolean hasConsecutivePositions(Postings[] postings, int[] entries) {
+        Postings first = postings[0];
+        for (int p = first.positionStartOf(entries[0]); p < first.positionEnds[entries[0]]; p++) {
+            int position = first.positions[p];
+            boolean isFollowed = true;
+            for (int i = 1; i < postings.length && isFollowed; i++) {
+                Postings next = postings[i];
+                isFollowed = Arrays.binarySearch(next.positions, next.positionStartOf(entries[i]),
+                        next.positionEnds[entries[i]], position + i) >= 0;
+            }
+            if (isFollowed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words of {@code text}: its runs of letters and digits, in order.
+     */
+    static List<String> toWords(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code words} contains all the words of {@code phrase} consecutively. An empty phrase is
+     * contained in no words.
+     */
+    static boolean containsPhrase(List<String> words, String[] phrase) {
+        if (phrase.length == 0) {
+            return false;
+        }
+        for (int start = 0; start + phrase.length <= words.size(); start++) {
+            int i = 0;
+            while (i < phrase.length && words.get(start + i).equals(phrase[i])) {
+                i++;
+            }
+            if (i == phrase.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The slots of the notes containing a word, in increasing order, each with the positions of the word in the note,
+     * also in increasing order. The positions of all the slots are kept in a single array, in the order of the slots.
+     */
+    private static final class Postings {
+        private int[] slots = new int[1];
+        private int[] positionEnds = new int[1];
+        private int[] positions = new int[1];
+        private int size;
+        private int positionCount;
+
+        /**
+         * Adds {@code position} to the positions of {@code slot}, which must not be smaller than any slot added
+         * before, nor the position smaller than any position added before for the same slot.
+         */
+        private void add(int slot, int position) {
+            if (size == 0 || slots[size - 1] != slot) {
+                if (size == slots.length) {
+                    slots = Arrays.copyOf(slots, size * 2);
+                    positionEnds = Arrays.copyOf(positionEnds, size * 2);
+                }
+                slots[size++] = slot;
+            }
+            if (positionCount == positions.length) {
+                positions = Arrays.copyOf(positions, positionCount * 2);
+            }
+            positions[positionCount++] = position;
+            positionEnds[size - 1] = positionCount;
+        }
+
+        private int positionStartOf(int entry) {
+            return entry == 0 ? 0 : positionEnds[entry - 1];
+        }
+    }
+}
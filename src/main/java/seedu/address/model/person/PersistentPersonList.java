@@ -0,0 +1,316 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list of persons, each stored together with its {@code PersonId}, that shares structure between versions.
+ * Every update returns a new list while leaving this list unchanged, and only copies the O(log n) nodes on the path to
+ * the updated position. As such, many versions of a large list can be kept at little cost, e.g. as undo snapshots.
+ *
+ * The list is backed by a height-balanced (AVL) binary tree in which every node also records the size of its subtree,
+ * so that persons can be looked up, replaced, inserted and removed by position in O(log n) time.
+ *
+ * Only {@code UniquePersonList} can create non-empty lists, so every {@code PersistentPersonList} is known to contain
+ * unique persons.
+ */
+public final class PersistentPersonList implements Iterable<Person> {
+
+    public static final PersistentPersonList EMPTY = new PersistentPersonList(null);
+
+    private final Node root;
+
+    private PersistentPersonList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a list of {@code persons} with the given {@code ids}, in the same order, in O(n) time.
+     * {@code ids} must be of the same size as {@code persons}.
+     */
+    static PersistentPersonList of(List<Person> persons, List<PersonId> ids) {
+        requireAllNonNull(persons, ids);
+        if (persons.size() != ids.size()) {
+            throw new IllegalArgumentException("Every person must have exactly one id.");
+        }
+        return new PersistentPersonList(build(persons, ids, 0, persons.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the person at {@code index}.
+     */
+    public Person get(int index) {
+        return nodeAt(root, checkIndex(index, size())).person;
+    }
+
+    /**
+     * Returns the id of the person at {@code index}.
+     */
+    public PersonId getId(int index) {
+        return nodeAt(root, checkIndex(index, size())).id;
+    }
+
+    /**
+     * Returns a list with the person at {@code index} replaced by {@code person} with the given {@code id}.
+     */
+    PersistentPersonList set(int index, PersonId id, Person person) {
+        requireAllNonNull(id, person);
+        return new PersistentPersonList(set(root, checkIndex(index, size()), id, person));
+    }
+
+    /**
+     * Returns a list with {@code person} with the given {@code id} appended to the end.
+     */
+    PersistentPersonList add(PersonId id, Person person) {
+        return add(size(), id, person);
+    }
+
+    /**
+     * Returns a list with {@code person} with the given {@code id} inserted at {@code index}.
+     */
+    PersistentPersonList add(int index, PersonId id, Person person) {
+        requireAllNonNull(id, person);
+        return new PersistentPersonList(insert(root, checkIndex(index, size() + 1), id, person));
+    }
+
+    /**
+     * Returns a list without the person at {@code index}.
+     */
+    PersistentPersonList remove(int index) {
+        return new PersistentPersonList(remove(root, checkIndex(index, size())));
+    }
+
+    /**
+     * Returns the persons of this list, in order, as a new mutable list.
+     */
+    public List<Person> toList() {
+        List<Person> persons = new ArrayList<>(size());
+        forEach(persons::add);
+        return persons;
+    }
+
+    /**
+     * Returns the ids of the persons of this list, in order, as a new mutable list.
+     */
+    public List<PersonId> toIdList() {
+        List<PersonId> ids = new ArrayList<>(size());
+        NodeIterator nodes = new NodeIterator(root);
+        while (nodes.hasNext()) {
+            ids.add(nodes.next().id);
+        }
+        return ids;
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        NodeIterator nodes = new NodeIterator(root);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return nodes.hasNext();
+            }
+
+            @Override
+            public Person next() {
+                return nodes.next().person;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentPersonList)) {
+            return false;
+        }
+
+        PersistentPersonList otherList = (PersistentPersonList) other;
+        return root == otherList.root || toList().equals(otherList.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    /**
+     * A node of the tree. Nodes are never modified after they are created, which allows them to be shared.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Node right;
+        private final PersonId id;
+        private final Person person;
+        private final int height;
+        private final int size;
+
+        private Node(Node left, PersonId id, Person person, Node right) {
+            this.left = left;
+            this.right = right;
+            this.id = id;
+            this.person = person;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+        return index;
+    }
+
+    private static Node build(List<Person> persons, List<PersonId> ids, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(build(persons, ids, from, mid), requireNonNull(ids.get(mid)), requireNonNull(persons.get(mid)),
+                build(persons, ids, mid + 1, to));
+    }
+
+    private static Node nodeAt(Node node, int index) {
+        Node current = node;
+        int remaining = index;
+        while (true) {
+            int leftSize = size(current.left);
+            if (remaining < leftSize) {
+                current = current.left;
+            } else if (remaining > leftSize) {
+                remaining -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+    }
+
+    private static Node set(Node node, int index, PersonId id, Person person) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node(set(node.left, index, id, person), node.id, node.person, node.right);
+        } else if (index > leftSize) {
+            return new Node(node.left, node.id, node.person, set(node.right, index - leftSize - 1, id, person));
+        }
+        return new Node(node.left, id, person, node.right);
+    }
+
+    private static Node insert(Node node, int index, PersonId id, Person person) {
+        if (node == null) {
+            return new Node(null, id, person, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, id, person), node.id, node.person, node.right);
+        }
+        return balance(node.left, node.id, node.person, insert(node.right, index - leftSize - 1, id, person));
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.id, node.person, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.id, node.person, remove(node.right, index - leftSize - 1));
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // replace the removed node with the first node of its right subtree
+        Node successor = nodeAt(node.right, 0);
+        return balance(node.left, successor.id, successor.person, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node with the given children and contents, rotating it if the heights of the children differ by 2.
+     */
+    private static Node balance(Node left, PersonId id, Person person, Node right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.left, left.id, left.person, new Node(left.right, id, person, right));
+            }
+            Node middle = left.right;
+            return new Node(new Node(left.left, left.id, left.person, middle.left), middle.id, middle.person,
+                    new Node(middle.right, id, person, right));
+        }
+
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(new Node(left, id, person, right.left), right.id, right.person, right.right);
+            }
+            Node middle = right.left;
+            return new Node(new Node(left, id, person, middle.left), middle.id, middle.person,
+                    new Node(middle.right, right.id, right.person, right.right));
+        }
+
+        return new Node(left, id, person, right);
+    }
+
+    /**
+     * Iterates over the nodes of a tree in order.
+     */
+    private static class NodeIterator {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        private NodeIterator(Node root) {
+            pushLeftmostPath(root);
+        }
+
+        private boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        private Node next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = path.pop();
+            pushLeftmostPath(node.right);
+            return node;
+        }
+
+        private void pushLeftmostPath(Node node) {
+            for (Node current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
@@ -28,6 +28,13 @@ public class Person {
     private final Note note;
     private Pin pin;
 
+    /**
+     * The fields in their search form, computed the first time the person is searched rather than whenever a person is
+     * created, e.g. for every person loaded. As they are immutable, a thread seeing them as not computed yet merely
+     * computes them again.
+     */
+    private PersonSearchFields searchFields;
+
     /**
      * Every parameter must be present and not null.
      */
@@ -88,6 +95,18 @@ public class Person {
         return pin;
     }
 
+    /**
+     * Returns the fields of this person in their search form.
+     */
+    PersonSearchFields getSearchFields() {
+        PersonSearchFields fields = searchFields;
+        if (fields == null) {
+            fields = new PersonSearchFields(this);
+            searchFields = fields;
+        }
+        return fields;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
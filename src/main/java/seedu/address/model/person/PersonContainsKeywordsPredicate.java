@@ -1,6 +1,10 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,15 +12,50 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests whether a {@code Person} matches any of the specified keywords in the given fields.
- * The search can be performed on the person's name, phone number, email, address, or tags.
+ * The search can be performed on the person's name, phone number, email, address, tags, or note.
+ * Notes are searched for whole words rather than for any text: each keyword is a phrase of words, which must be found
+ * consecutively in a note, regardless of the spaces and punctuation between them.
+ * The keywords are converted to their search form once, and compared to the search forms of the fields that each
+ * person keeps, so that testing a person allocates nothing. The keywords are also compiled into a
+ * {@code KeywordMatcher} when the predicate is constructed, so each field is scanned once for all the keywords.
+ * A ranked predicate also limits the matches to the most relevant ones, as scored by {@link #scoreOf(Person)}.
  */
 public class PersonContainsKeywordsPredicate implements Predicate<Person> {
+    /** Maximum Levenshtein distance between a keyword and a word that it matches approximately. */
+    static final int MAX_EDIT_DISTANCE = 2;
+
+    /** Rank limit of a predicate whose matches are not ranked. */
+    public static final int UNRANKED = 0;
+
+    public static final String MESSAGE_RANK_LIMIT_CONSTRAINTS = "The rank limit must not be negative.";
+
+    /** Scores of a keyword that is a whole field or word, the start of one, anywhere in one, or a misspelled word. */
+    private static final int EXACT_SCORE = 100;
+    private static final int PREFIX_SCORE = 70;
+    private static final int SUBSTRING_SCORE = 40;
+    private static final int APPROXIMATE_SCORE = 20;
+    private static final int APPROXIMATE_SCORE_PER_EDIT = 5;
+
+    /** Weights of the scores of the keywords found in each field. */
+    private static final int NAME_WEIGHT = 4;
+    private static final int TAG_WEIGHT = 3;
+    private static final int PHONE_WEIGHT = 2;
+    private static final int EMAIL_WEIGHT = 2;
+    private static final int ADDRESS_WEIGHT = 1;
+    private static final int NOTE_WEIGHT = 1;
+
     private final List<String> keywords;
+    private final String[] exactKeywords;
+    private final String[] approximateKeywords;
+    private final KeywordMatcher exactKeywordMatcher;
+    private final String[][] notePhrases;
     private final boolean isSearchByName;
     private final boolean isSearchByPhone;
     private final boolean isSearchByEmail;
     private final boolean isSearchByAddress;
     private final boolean isSearchByTags;
+    private final boolean isSearchByNote;
+    private final int rankLimit;
 
     /**
      * Constructs a {@code PersonContainsKeywordsPredicate} with the specified search parameters.
@@ -30,38 +69,312 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
      */
     public PersonContainsKeywordsPredicate(List<String> keywords, boolean isSearchByName, boolean isSearchByPhone,
                                            boolean isSearchByEmail, boolean isSearchByAddress, boolean isSearchByTags) {
+        this(keywords, isSearchByName, isSearchByPhone, isSearchByEmail, isSearchByAddress, isSearchByTags, UNRANKED);
+    }
+
+    /**
+     * Constructs a {@code PersonContainsKeywordsPredicate} with the specified search parameters, whose matches are
+     * ranked by relevance and limited to the {@code rankLimit} most relevant persons, unless {@code rankLimit} is
+     * {@link #UNRANKED}.
+     *
+     * @throws IllegalArgumentException if {@code rankLimit} is negative.
+     */
+    public PersonContainsKeywordsPredicate(List<String> keywords, boolean isSearchByName, boolean isSearchByPhone,
+                                           boolean isSearchByEmail, boolean isSearchByAddress, boolean isSearchByTags,
+                                           int rankLimit) {
+        this(keywords, isSearchByName, isSearchByPhone, isSearchByEmail, isSearchByAddress, isSearchByTags, false,
+                rankLimit);
+    }
+
+    /**
+     * Constructs a {@code PersonContainsKeywordsPredicate} with the specified search parameters, which also searches
+     * the notes of the persons for the keywords if {@code isSearchByNote} is {@code true}, and whose matches are
+     * ranked as by {@link #PersonContainsKeywordsPredicate(List, boolean, boolean, boolean, boolean, boolean, int)}.
+     *
+     * @throws IllegalArgumentException if {@code rankLimit} is negative.
+     */
+    public PersonContainsKeywordsPredicate(List<String> keywords, boolean isSearchByName, boolean isSearchByPhone,
+                                           boolean isSearchByEmail, boolean isSearchByAddress, boolean isSearchByTags,
+                                           boolean isSearchByNote, int rankLimit) {
+        checkArgument(rankLimit >= 0, MESSAGE_RANK_LIMIT_CONSTRAINTS);
         this.keywords = keywords;
+        // a phrase is searched for without its surrounding whitespace, and a blank phrase matches nothing
+        this.exactKeywords = keywords.stream().map(String::trim).filter(keyword -> !keyword.isEmpty())
+                .map(StringUtil::toSearchForm).toArray(String[]::new);
+        this.exactKeywordMatcher = new KeywordMatcher(exactKeywords);
+        this.approximateKeywords = keywords.stream().map(StringUtil::toSearchForm).toArray(String[]::new);
+        this.notePhrases = Arrays.stream(exactKeywords)
+                .map(keyword -> NoteIndex.toWords(keyword).toArray(String[]::new)).toArray(String[][]::new);
         this.isSearchByName = isSearchByName;
         this.isSearchByPhone = isSearchByPhone;
         this.isSearchByEmail = isSearchByEmail;
         this.isSearchByAddress = isSearchByAddress;
         this.isSearchByTags = isSearchByTags;
+        this.isSearchByNote = isSearchByNote;
+        this.rankLimit = rankLimit;
     }
 
     @Override
     public boolean test(Person person) {
-        return (isSearchByName && matches(person.getName().fullName))
-                || (isSearchByPhone && keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsPhraseIgnoreCase(person.getPhone().value, keyword)))
-                || (isSearchByEmail && matches(person.getEmail().value))
-                || (isSearchByAddress && matches(person.getAddress().value))
-                || (isSearchByTags && person.getTags().stream()
-                .anyMatch(tag -> keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsPhraseIgnoreCase(tag.tagName, keyword))));
+        return matchesExactly(person) || matchesApproximately(person);
+    }
+
+    /**
+     * Returns true if any of the searched fields of {@code person} contains any of the keywords, ignoring case, or
+     * if its note is searched and contains any of the keywords as a phrase.
+     */
+    boolean matchesExactly(Person person) {
+        return matchesFieldsExactly(person) || (isSearchByNote && matchesNote(person));
+    }
+
+    /**
+     * Returns true if any of the searched fields of {@code person} other than its note contains any of the keywords,
+     * ignoring case.
+     */
+    boolean matchesFieldsExactly(Person person) {
+        PersonSearchFields fields = person.getSearchFields();
+        return (isSearchByName && containsAnyKeyword(fields.name))
+                || (isSearchByPhone && containsAnyKeyword(fields.phone))
+                || (isSearchByEmail && containsAnyKeyword(fields.email))
+                || (isSearchByAddress && containsAnyKeyword(fields.address))
+                || (isSearchByTags && containsAnyKeyword(fields.tagNames));
+    }
+
+    /**
+     * Returns true if the note of {@code person} contains any of the keywords as a phrase of whole words, ignoring
+     * case, whether or not notes are searched. The note is scanned from the start.
+     */
+    boolean matchesNote(Person person) {
+        List<String> noteWords = NoteIndex.toWords(person.getSearchFields().note);
+        for (String[] phrase : notePhrases) {
+            if (NoteIndex.containsPhrase(noteWords, phrase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a word in any of the searched names, emails or addresses of {@code person} is within a
+     * Levenshtein distance of {@value #MAX_EDIT_DISTANCE} of any of the keywords.
+     * Phone numbers and tags are only matched exactly.
+     */
+    boolean matchesApproximately(Person person) {
+        PersonSearchFields fields = person.getSearchFields();
+        return (isSearchByName && isSimilarToAnyKeyword(fields.nameWords))
+                || (isSearchByEmail && isSimilarToAnyKeyword(fields.emailWords))
+                || (isSearchByAddress && isSimilarToAnyKeyword(fields.addressWords));
+    }
+
+    /**
+     * Returns the relevance of {@code person} to the keywords: the sum, over the keywords, of the best weighted score
+     * of each keyword in the searched fields. A keyword scores highest if it is a whole field or word, then if it
+     * starts a word, then if it is anywhere in a field, and lowest if it is a word misspelled, less so the more edits
+     * away it is. Keywords in a name weigh the most, followed by tags, phone numbers and emails, and then addresses
+     * and notes. A keyword scores in a note as if it were anywhere in a field, if the note contains it as a phrase.
+     */
+    int scoreOf(Person person) {
+        PersonSearchFields fields = person.getSearchFields();
+        // the words of a note are not kept with the person, as they would take memory in proportion to the note
+        List<String> noteWords = isSearchByNote ? NoteIndex.toWords(fields.note) : null;
+        int score = 0;
+        for (int k = 0; k < exactKeywords.length; k++) {
+            String keyword = exactKeywords[k];
+            int keywordScore = 0;
+            if (isSearchByName) {
+                keywordScore = Math.max(keywordScore, NAME_WEIGHT * scoreOf(keyword, fields.name, fields.nameWords));
+            }
+            if (isSearchByPhone) {
+                keywordScore = Math.max(keywordScore, PHONE_WEIGHT * scoreOf(keyword, fields.phone, null));
+            }
+            if (isSearchByEmail) {
+                keywordScore = Math.max(keywordScore,
+                        EMAIL_WEIGHT * scoreOf(keyword, fields.email, fields.emailWords));
+            }
+            if (isSearchByAddress) {
+                keywordScore = Math.max(keywordScore,
+                        ADDRESS_WEIGHT * scoreOf(keyword, fields.address, fields.addressWords));
+            }
+            if (isSearchByTags) {
+                for (String tagName : fields.tagNames) {
+                    keywordScore = Math.max(keywordScore, TAG_WEIGHT * scoreOf(keyword, tagName, null));
+                }
+            }
+            if (isSearchByNote && NoteIndex.containsPhrase(noteWords, notePhrases[k])) {
+                keywordScore = Math.max(keywordScore, NOTE_WEIGHT * SUBSTRING_SCORE);
+            }
+            score += keywordScore;
+        }
+        return score;
+    }
+
+    /**
+     * Returns the score of {@code keyword} in a field with the given {@code value}, and the given {@code words} if
+     * the field is matched approximately, or null otherwise.
+     */
+    private static int scoreOf(String keyword, String value, String[] words) {
+        if (value.equals(keyword)) {
+            return EXACT_SCORE;
+        }
+        int score = value.startsWith(keyword) ? PREFIX_SCORE : value.contains(keyword) ? SUBSTRING_SCORE : 0;
+        if (words == null) {
+            return score;
+        }
+        for (String word : words) {
+            if (word.equals(keyword)) {
+                return EXACT_SCORE;
+            } else if (word.startsWith(keyword)) {
+                score = Math.max(score, PREFIX_SCORE);
+            } else if (score < APPROXIMATE_SCORE) {
+                int distance = StringUtil.levenshteinDistance(word, keyword, MAX_EDIT_DISTANCE);
+                if (distance <= MAX_EDIT_DISTANCE) {
+                    score = Math.max(score, APPROXIMATE_SCORE - APPROXIMATE_SCORE_PER_EDIT * distance);
+                }
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Returns true if every person matching this predicate exactly also matches {@code other} exactly: this predicate
+     * searches none of the fields that {@code other} does not, and each of its keywords contains a keyword of
+     * {@code other}, as is the case when the keywords of {@code other} are extended while being typed. As notes are
+     * searched for whole words, each of its note phrases must also contain a note phrase of {@code other}.
+     */
+    boolean hasNarrowerExactMatchesThan(PersonContainsKeywordsPredicate other) {
+        if ((isSearchByName && !other.isSearchByName) || (isSearchByPhone && !other.isSearchByPhone)
+                || (isSearchByEmail && !other.isSearchByEmail) || (isSearchByAddress && !other.isSearchByAddress)
+                || (isSearchByTags && !other.isSearchByTags) || (isSearchByNote && !other.isSearchByNote)) {
+            return false;
+        }
+        for (String keyword : exactKeywords) {
+            if (!containsAny(keyword, other.exactKeywords)) {
+                return false;
+            }
+        }
+        if (isSearchByNote) {
+            for (String[] phrase : notePhrases) {
+                if (!containsAnyPhrase(phrase, other.notePhrases)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAnyPhrase(String[] phrase, String[][] otherPhrases) {
+        List<String> words = Arrays.asList(phrase);
+        for (String[] otherPhrase : otherPhrases) {
+            if (NoteIndex.containsPhrase(words, otherPhrase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAny(String keyword, String[] otherKeywords) {
+        for (String otherKeyword : otherKeywords) {
+            if (keyword.contains(otherKeyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Checks if the given field value matches any of the keywords using either exact phrase matching
-     * (ignoring case) or approximate matching using Levenshtein distance.
+     * Returns true if the matches are ranked by relevance.
+     */
+    public boolean isRanked() {
+        return rankLimit != UNRANKED;
+    }
+
+    /**
+     * Returns the number of most relevant matches kept by a ranked predicate, or {@link #UNRANKED}.
+     */
+    public int getRankLimit() {
+        return rankLimit;
+    }
+
+    /**
+     * Returns true if any of the searched fields is matched approximately as well as exactly.
+     */
+    boolean isApproximate() {
+        return isSearchByName || isSearchByEmail || isSearchByAddress;
+    }
+
+    boolean isSearchByName() {
+        return isSearchByName;
+    }
+
+    boolean isSearchByPhone() {
+        return isSearchByPhone;
+    }
+
+    boolean isSearchByEmail() {
+        return isSearchByEmail;
+    }
+
+    boolean isSearchByAddress() {
+        return isSearchByAddress;
+    }
+
+    boolean isSearchByTags() {
+        return isSearchByTags;
+    }
+
+    boolean isSearchByNote() {
+        return isSearchByNote;
+    }
+
+    /**
+     * Returns the words of each of the keywords that the notes are searched for, in their search form.
+     */
+    String[][] getNotePhrases() {
+        return notePhrases;
+    }
+
+    /**
+     * Returns the keywords that the fields are searched for, trimmed and in their search form.
+     */
+    String[] getExactKeywords() {
+        return exactKeywords;
+    }
+
+    /**
+     * Returns the keywords that the words of the fields are compared to, in their search form.
+     */
+    String[] getApproximateKeywords() {
+        return approximateKeywords;
+    }
+
+    private boolean containsAnyKeyword(String fieldValue) {
+        return exactKeywordMatcher.occursIn(fieldValue);
+    }
+
+    private boolean containsAnyKeyword(String[] fieldValues) {
+        for (String fieldValue : fieldValues) {
+            if (containsAnyKeyword(fieldValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if any of the given words of a field matches any of the keywords approximately using Levenshtein
+     * distance.
      *
-     * @param fieldValue The string value of the field to be checked.
-     * @return {@code true} if any keyword matches the field value either exactly (ignoring case)
-     *         or approximately within a Levenshtein distance threshold of 2, otherwise {@code false}.
+     * @param fieldWords The words of the field to be checked, in their search form.
+     * @return {@code true} if any keyword is within a Levenshtein distance threshold of {@value #MAX_EDIT_DISTANCE}
+     *         of a word of the field, otherwise {@code false}.
      */
-    private boolean matches(String fieldValue) {
-        return keywords.stream().anyMatch(keyword ->
-                StringUtil.containsPhraseIgnoreCase(fieldValue, keyword) || StringUtil.isSimilar(fieldValue, keyword, 2)
-        );
+    private boolean isSimilarToAnyKeyword(String[] fieldWords) {
+        for (String keyword : approximateKeywords) {
+            if (StringUtil.isSimilar(fieldWords, keyword, MAX_EDIT_DISTANCE)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -81,7 +394,15 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
                 && isSearchByPhone == otherPredicate.isSearchByPhone
                 && isSearchByEmail == otherPredicate.isSearchByEmail
                 && isSearchByAddress == otherPredicate.isSearchByAddress
-                && isSearchByTags == otherPredicate.isSearchByTags;
+                && isSearchByTags == otherPredicate.isSearchByTags
+                && isSearchByNote == otherPredicate.isSearchByNote
+                && rankLimit == otherPredicate.rankLimit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, isSearchByName, isSearchByPhone, isSearchByEmail, isSearchByAddress,
+                isSearchByTags, isSearchByNote, rankLimit);
     }
 
     @Override
@@ -92,6 +413,8 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
                 .add("searchEmail", isSearchByEmail)
                 .add("searchAddress", isSearchByAddress)
                 .add("searchTags", isSearchByTags)
+                .add("searchNote", isSearchByNote)
+                .add("rankLimit", rankLimit)
                 .toString();
     }
 }
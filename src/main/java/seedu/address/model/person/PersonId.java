@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the internal identifier of a Person in a {@code UniquePersonList}.
+ * Unlike the identity fields of a person, the id stays the same when the person is edited.
+ * Guarantees: immutable; unique among all ids created while the application is running.
+ */
+public class PersonId {
+
+    private static final AtomicLong nextValue = new AtomicLong();
+
+    public final long value;
+
+    /**
+     * Ids can only be created by calling {@link PersonId#next()}.
+     */
+    private PersonId(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a new id that is different from every id returned before.
+     */
+    static PersonId next() {
+        return new PersonId(nextValue.getAndIncrement());
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherPersonId = (PersonId) other;
+        return value == otherPersonId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
@@ -0,0 +1,346 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents a single change made to a {@code UniquePersonList}, recorded with enough information to undo and redo it.
+ * A change only holds the persons and positions it affected, so its size depends on the size of the change rather
+ * than on the size of the list, except for reorderings of the whole list, which hold one position per person.
+ *
+ * Changes must be undone in the reverse order they were made, and redone in the order they were made.
+ * Two changes are equal if they affect the same positions and persons, regardless of the ids of the persons.
+ */
+public abstract class PersonListChange {
+
+    /** Rough number of bytes taken up by a change, excluding the persons and positions it holds. */
+    private static final long CHANGE_OVERHEAD = 32;
+
+    /** Rough number of bytes taken up by a person held only by a change. */
+    private static final long PERSON_SIZE = 256;
+
+    private PersonListChange() {}
+
+    /**
+     * Reverts this change, which must be the last change made to {@code list} that has not been undone.
+     */
+    abstract void undo(UniquePersonList list);
+
+    /**
+     * Makes this change again, which must be the first change undone in {@code list} that has not been redone.
+     */
+    abstract void redo(UniquePersonList list);
+
+    /**
+     * Returns the approximate number of bytes taken up by this change.
+     */
+    public abstract long estimateSize();
+
+    /**
+     * A person added to the list.
+     */
+    static final class Added extends PersonListChange {
+        private final int index;
+        private final PersonId id;
+        private final Person person;
+
+        Added(int index, PersonId id, Person person) {
+            requireAllNonNull(id, person);
+            this.index = index;
+            this.id = id;
+            this.person = person;
+        }
+
+        @Override
+        void undo(UniquePersonList list) {
+            list.removeAt(index);
+        }
+
+        @Override
+        void redo(UniquePersonList list) {
+            list.insertAt(index, id, person);
+        }
+
+        @Override
+        public long estimateSize() {
+            // the person is also held by the list, unless the change is undone
+            return CHANGE_OVERHEAD + PERSON_SIZE;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Added)) {
+                return false;
+            }
+
+            Added otherAdded = (Added) other;
+            return index == otherAdded.index && person.equals(otherAdded.person);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, person);
+        }
+    }
+
+    /**
+     * A person removed from the list.
+     */
+    static final class Removed extends PersonListChange {
+        private final int index;
+        private final PersonId id;
+        private final Person person;
+
+        Removed(int index, PersonId id, Person person) {
+            requireAllNonNull(id, person);
+            this.index = index;
+            this.id = id;
+            this.person = person;
+        }
+
+        @Override
+        void undo(UniquePersonList list) {
+            list.insertAt(index, id, person);
+        }
+
+        @Override
+        void redo(UniquePersonList list) {
+            list.removeAt(index);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD + PERSON_SIZE;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Removed)) {
+                return false;
+            }
+
+            Removed otherRemoved = (Removed) other;
+            return index == otherRemoved.index && person.equals(otherRemoved.person);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, person);
+        }
+    }
+
+    /**
+     * A person in the list replaced by an edited person, which keeps the id of the replaced person.
+     */
+    static final class Replaced extends PersonListChange {
+        private final int index;
+        private final PersonId id;
+        private final Person before;
+        private final Person after;
+
+        Replaced(int index, PersonId id, Person before, Person after) {
+            requireAllNonNull(id, before, after);
+            this.index = index;
+            this.id = id;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void undo(UniquePersonList list) {
+            list.replaceAt(index, id, before);
+        }
+
+        @Override
+        void redo(UniquePersonList list) {
+            list.replaceAt(index, id, after);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD + 2 * PERSON_SIZE;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Replaced)) {
+                return false;
+            }
+
+            Replaced otherReplaced = (Replaced) other;
+            return index == otherReplaced.index
+                    && before.equals(otherReplaced.before)
+                    && after.equals(otherReplaced.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, before, after);
+        }
+    }
+
+    /**
+     * A single person moved to another position in the list, with the persons in between shifted by one.
+     */
+    static final class Moved extends PersonListChange {
+        private final int from;
+        private final int to;
+
+        Moved(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        void undo(UniquePersonList list) {
+            list.move(to, from);
+        }
+
+        @Override
+        void redo(UniquePersonList list) {
+            list.move(from, to);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Moved)) {
+                return false;
+            }
+
+            Moved otherMoved = (Moved) other;
+            return from == otherMoved.from && to == otherMoved.to;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to);
+        }
+    }
+
+    /**
+     * The whole list reordered, e.g. by sorting.
+     * The previous position of the person at each position of the reordered list is held in an array.
+     */
+    static final class Reordered extends PersonListChange {
+        private final int[] previousPositions;
+
+        Reordered(int[] previousPositions) {
+            requireNonNull(previousPositions);
+            this.previousPositions = previousPositions;
+        }
+
+        @Override
+        void undo(UniquePersonList list) {
+            list.restoreOrder(previousPositions);
+        }
+
+        @Override
+        void redo(UniquePersonList list) {
+            list.reorder(previousPositions);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD + (long) Integer.BYTES * previousPositions.length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Reordered)) {
+                return false;
+            }
+
+            Reordered otherReordered = (Reordered) other;
+            return Arrays.equals(previousPositions, otherReordered.previousPositions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(previousPositions);
+        }
+    }
+
+    /**
+     * The whole contents of the list replaced, e.g. by clearing the list.
+     * As both versions of the list are persistent, holding them does not copy any persons.
+     */
+    static final class Reset extends PersonListChange {
+        private final PersistentPersonList before;
+        private final PersistentPersonList after;
+
+        Reset(PersistentPersonList before, PersistentPersonList after) {
+            requireAllNonNull(before, after);
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void undo(UniquePersonList list) {
+            list.restore(before);
+        }
+
+        @Override
+        void redo(UniquePersonList list) {
+            list.restore(after);
+        }
+
+        @Override
+        public long estimateSize() {
+            // the persons of the version that is not in the list are only held by this change
+            return CHANGE_OVERHEAD + PERSON_SIZE * Math.max(before.size(), after.size());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Reset)) {
+                return false;
+            }
+
+            Reset otherReset = (Reset) other;
+            return before.equals(otherReset.before) && after.equals(otherReset.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+    }
+}
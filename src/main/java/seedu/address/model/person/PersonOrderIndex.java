@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+/**
+ * The persons of a {@code UniquePersonList}, identified by their {@code PersonId}s, kept in a {@code PersonSortOrder}.
+ * The index is updated as persons are added, removed and replaced, in O(log n) time each, so that the list can be
+ * sorted in that order again by traversing the index in O(n) time instead of sorting the whole list.
+ */
+final class PersonOrderIndex {
+
+    /** Orders entries by their sort keys, and entries with equal sort keys by their ids, so that all are distinct. */
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.<Entry, PersonSortOrder.SortKey>comparing(
+            entry -> entry.key).thenComparingLong(entry -> entry.id.value);
+
+    private final PersonSortOrder order;
+    private final TreeSet<Entry> entries = new TreeSet<>(ENTRY_ORDER);
+
+    /**
+     * Creates an index of {@code persons}, with the given {@code ids}, in the given {@code order}.
+     * {@code ids} must be of the same size as {@code persons}.
+     */
+    PersonOrderIndex(PersonSortOrder order, List<Person> persons, List<PersonId> ids) {
+        requireAllNonNull(order, persons, ids);
+        assert persons.size() == ids.size();
+        this.order = order;
+        for (int i = 0; i < persons.size(); i++) {
+            add(ids.get(i), persons.get(i));
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Adds {@code person} with the given {@code id} to the index.
+     */
+    void add(PersonId id, Person person) {
+        boolean isAdded = entries.add(new Entry(id, order.keyOf(person)));
+        assert isAdded;
+    }
+
+    /**
+     * Removes {@code person} with the given {@code id} from the index.
+     * The person must be the one the id was added with.
+     */
+    void remove(PersonId id, Person person) {
+        boolean isRemoved = entries.remove(new Entry(id, order.keyOf(person)));
+        assert isRemoved;
+    }
+
+    /**
+     * Returns the current position of every indexed person, as given by {@code positionOf}, in the order of the index.
+     * Persons with equal sort keys are kept in their current relative order, as a stable sort would.
+     */
+    int[] sortedPositions(ToIntFunction<PersonId> positionOf) {
+        int[] positions = new int[entries.size()];
+        int count = 0;
+        int runStart = 0;
+        Entry previous = null;
+        for (Entry entry : entries) {
+            if (previous != null && previous.key.compareTo(entry.key) != 0) {
+                Arrays.sort(positions, runStart, count);
+                runStart = count;
+            }
+            positions[count++] = positionOf.applyAsInt(entry.id);
+            previous = entry;
+        }
+        Arrays.sort(positions, runStart, count);
+        return positions;
+    }
+
+    /**
+     * A person in the index, identified by its id, together with its sort key.
+     */
+    private static final class Entry {
+        private final PersonId id;
+        private final PersonSortOrder.SortKey key;
+
+        private Entry(PersonId id, PersonSortOrder.SortKey key) {
+            this.id = id;
+            this.key = key;
+        }
+    }
+}
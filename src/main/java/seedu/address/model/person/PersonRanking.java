@@ -0,0 +1,115 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * The persons matching a ranked {@code PersonContainsKeywordsPredicate}, limited to the most relevant ones, which
+ * passes those persons and orders them from the most to the least relevant.
+ *
+ * The matches are scored as they are found, and only the best of them so far are kept, in a heap bounded by the rank
+ * limit of the predicate with the worst kept match on top, so ranking n matches takes O(n log k) time for a limit of k
+ * rather than sorting all of them. Matching persons that are added or edited after the ranking are passed too if they
+ * score higher than the worst ranked person, and are ordered after the ranked persons.
+ */
+public final class PersonRanking implements Predicate<Person> {
+
+    /** Orders ranked persons from the worst to the best: by score, and then by their position in the list. */
+    private static final Comparator<RankedPerson> WORST_FIRST = Comparator.<RankedPerson>comparingInt(
+            rankedPerson -> rankedPerson.score).thenComparing(Comparator.<RankedPerson>comparingInt(
+                    rankedPerson -> rankedPerson.position).reversed());
+
+    private final PersonContainsKeywordsPredicate predicate;
+    private final Predicate<Person> matches;
+    private final Map<Person, Integer> ranksByPerson;
+
+    /** The score to beat for an unranked person to be passed, or -1 if every match was ranked. */
+    private final int worstRankedScore;
+
+    private PersonRanking(PersonContainsKeywordsPredicate predicate, Predicate<Person> matches,
+            Map<Person, Integer> ranksByPerson, int worstRankedScore) {
+        this.predicate = predicate;
+        this.matches = matches;
+        this.ranksByPerson = ranksByPerson;
+        this.worstRankedScore = worstRankedScore;
+    }
+
+    /**
+     * Ranks the {@code persons} that pass {@code matches}, which must be equivalent to {@code predicate}, keeping the
+     * number of them given by the rank limit of {@code predicate}. Persons with the same score keep their order in
+     * {@code persons}.
+     */
+    public static PersonRanking rank(PersonContainsKeywordsPredicate predicate, Predicate<Person> matches,
+            List<Person> persons) {
+        requireAllNonNull(predicate, matches, persons);
+        assert predicate.isRanked();
+
+        int rankLimit = predicate.getRankLimit();
+        // the rank limit can be far larger than the list, so the heap only grows to the matches it keeps
+        PriorityQueue<RankedPerson> best = new PriorityQueue<>(Math.max(1, Math.min(rankLimit, persons.size())),
+                WORST_FIRST);
+        boolean isAnyMatchLeftOut = false;
+        for (int position = 0; position < persons.size(); position++) {
+            Person person = persons.get(position);
+            if (!matches.test(person)) {
+                continue;
+            }
+            RankedPerson rankedPerson = new RankedPerson(person, predicate.scoreOf(person), position);
+            if (best.size() < rankLimit) {
+                best.add(rankedPerson);
+            } else {
+                isAnyMatchLeftOut = true;
+                if (WORST_FIRST.compare(rankedPerson, best.peek()) > 0) {
+                    best.poll();
+                    best.add(rankedPerson);
+                }
+            }
+        }
+
+        int worstRankedScore = isAnyMatchLeftOut ? best.peek().score : -1;
+        Map<Person, Integer> ranksByPerson = new IdentityHashMap<>(best.size());
+        for (int rank = best.size() - 1; rank >= 0; rank--) {
+            ranksByPerson.put(best.poll().person, rank);
+        }
+        return new PersonRanking(predicate, matches, ranksByPerson, worstRankedScore);
+    }
+
+    /**
+     * Returns true if {@code person} is ranked, or is a match added since the ranking that scores higher than the
+     * worst ranked person.
+     */
+    @Override
+    public boolean test(Person person) {
+        return ranksByPerson.containsKey(person)
+                || (matches.test(person) && predicate.scoreOf(person) > worstRankedScore);
+    }
+
+    /**
+     * Returns a comparator that orders the ranked persons from the most to the least relevant, followed by any other
+     * persons.
+     */
+    public Comparator<Person> comparator() {
+        return Comparator.comparingInt(person -> ranksByPerson.getOrDefault(person, Integer.MAX_VALUE));
+    }
+
+    /**
+     * A matching person, with its score and its position in the ranked list.
+     */
+    private static final class RankedPerson {
+        private final Person person;
+        private final int score;
+        private final int position;
+
+        private RankedPerson(Person person, int score, int position) {
+            this.person = person;
+            this.score = score;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The fields of a {@code Person} in their {@link StringUtil#toSearchForm(String) search form}, together with the words
+ * of the fields that are matched approximately, so that searching a person does not need to lowercase or split its
+ * fields again.
+ */
+final class PersonSearchFields {
+
+    final String name;
+    final String phone;
+    final String email;
+    final String address;
+    final String[] tagNames;
+    final String note;
+    final String[] nameWords;
+    final String[] emailWords;
+    final String[] addressWords;
+
+    /**
+     * Computes the search forms of the fields of {@code person}.
+     */
+    PersonSearchFields(Person person) {
+        requireNonNull(person);
+        name = StringUtil.toSearchForm(person.getName().fullName);
+        phone = StringUtil.toSearchForm(person.getPhone().value);
+        email = StringUtil.toSearchForm(person.getEmail().value);
+        address = StringUtil.toSearchForm(person.getAddress().value);
+        tagNames = new String[person.getTags().size()];
+        int i = 0;
+        for (Tag tag : person.getTags()) {
+            tagNames[i++] = StringUtil.toSearchForm(tag.tagName);
+        }
+        note = StringUtil.toSearchForm(person.getNote().value);
+        nameWords = StringUtil.toWords(name);
+        emailWords = StringUtil.toWords(email);
+        addressWords = StringUtil.toWords(address);
+    }
+}
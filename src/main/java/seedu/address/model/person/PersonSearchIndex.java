@@ -0,0 +1,518 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * A trigram index of the names, phone numbers, emails, addresses and tags of the persons of a
+ * {@code UniquePersonList}, which finds the persons matching a {@code PersonContainsKeywordsPredicate} without testing
+ * every person in the list.
+ *
+ * Every person is given a slot, in the order it is added, and every three consecutive characters of the search forms
+ * of its fields are mapped to the slots of the persons whose fields contain them. A field can only contain a keyword if
+ * it contains every trigram of the keyword, so intersecting the slots of those trigrams leaves a few candidates that
+ * are then tested against the predicate. Keywords shorter than a trigram are still found by testing every person.
+ * For approximate matches, the distinct words of the names, emails and addresses are kept in a {@code TokenBkTree},
+ * mapped to the slots of the persons with those words, so that only the words close to a keyword are compared to it.
+ * The words of the notes are kept in a {@code NoteIndex} instead, with their positions, as notes are searched for
+ * phrases of whole words.
+ *
+ * When a search leaves many candidates, they are tested in parallel by splitting their slots into chunks, each tested
+ * by a task of the common {@code ForkJoinPool}. The chunks cover whole words of the resulting bit set, so the tasks
+ * never write to the same word, and the search still returns once every chunk is tested.
+ *
+ * The index is updated as persons are added, removed and replaced. Removed persons leave their slots empty, and the
+ * index is rebuilt once most of its slots are empty.
+ */
+final class PersonSearchIndex {
+
+    /** Number of characters of the grams that the fields are indexed by. */
+    static final int GRAM_LENGTH = 3;
+
+    /** Number of slots below which the index is never rebuilt to reclaim the empty slots. */
+    private static final int MIN_REBUILT_SLOTS = 1024;
+
+    /** Number of slots tested by each task of a parallel search, which must be a multiple of {@code Long.SIZE}. */
+    private static final int PARALLEL_CHUNK_SLOTS = 64 * Long.SIZE;
+
+    /**
+     * A field of a person that is indexed.
+     */
+    private enum Field {
+        NAME(true),
+        PHONE(false),
+        EMAIL(true),
+        ADDRESS(true),
+        TAG(false);
+
+        /** Whether the words of the field are also matched approximately. */
+        private final boolean isApproximate;
+
+        Field(boolean isApproximate) {
+            this.isApproximate = isApproximate;
+        }
+
+        /**
+         * Returns the values of this field of {@code person} in their search form: a single value, or the names of its
+         * tags.
+         */
+        private String[] valuesOf(PersonSearchFields fields) {
+            switch (this) {
+            case NAME:
+                return new String[] {fields.name};
+            case PHONE:
+                return new String[] {fields.phone};
+            case EMAIL:
+                return new String[] {fields.email};
+            case ADDRESS:
+                return new String[] {fields.address};
+            case TAG:
+                return fields.tagNames;
+            default:
+                throw new AssertionError(this);
+            }
+        }
+
+        /**
+         * Returns the words of this field of {@code person} that are matched approximately.
+         */
+        private String[] wordsOf(PersonSearchFields fields) {
+            switch (this) {
+            case NAME:
+                return fields.nameWords;
+            case EMAIL:
+                return fields.emailWords;
+            case ADDRESS:
+                return fields.addressWords;
+            default:
+                throw new AssertionError(this);
+            }
+        }
+
+        /**
+         * Returns true if {@code predicate} searches this field.
+         */
+        private boolean isSearchedBy(PersonContainsKeywordsPredicate predicate) {
+            switch (this) {
+            case NAME:
+                return predicate.isSearchByName();
+            case PHONE:
+                return predicate.isSearchByPhone();
+            case EMAIL:
+                return predicate.isSearchByEmail();
+            case ADDRESS:
+                return predicate.isSearchByAddress();
+            case TAG:
+                return predicate.isSearchByTags();
+            default:
+                throw new AssertionError(this);
+            }
+        }
+    }
+
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Map<Person, Integer> slotsByPerson = new IdentityHashMap<>();
+    private final BitSet occupiedSlots = new BitSet();
+    private final GramTable slotsByGram = new GramTable();
+    private final TokenBkTree<SlotList[]> slotsByToken = new TokenBkTree<>();
+    private final NoteIndex noteIndex = new NoteIndex();
+    private boolean isBuilt;
+
+    /** Incremented whenever the slots are reassigned, so that results using the previous slots can tell. */
+    private int generation;
+
+    /**
+     * Returns true if the index has been built, and is being kept up to date.
+     */
+    boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Indexes {@code persons}, which must be all the persons in the list, and keeps the index up to date from then on.
+     */
+    void build(List<Person> persons) {
+        requireNonNull(persons);
+        clear();
+        isBuilt = true;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Discards the indexed persons and stops keeping the index up to date, until it is built again.
+     */
+    void clear() {
+        personsBySlot.clear();
+        slotsByPerson.clear();
+        occupiedSlots.clear();
+        slotsByGram.clear();
+        slotsByToken.clear();
+        noteIndex.clear();
+        isBuilt = false;
+        generation++;
+    }
+
+    /**
+     * Adds {@code person} to the index, if the index is built.
+     */
+    void add(Person person) {
+        if (!isBuilt) {
+            return;
+        }
+        int slot = personsBySlot.size();
+        personsBySlot.add(person);
+        Integer previousSlot = slotsByPerson.put(person, slot);
+        assert previousSlot == null;
+        occupiedSlots.set(slot);
+        PersonSearchFields fields = person.getSearchFields();
+        for (Field field : Field.values()) {
+            for (String value : field.valuesOf(fields)) {
+                for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                    slotsByGram.getOrAdd(gramAt(field, value, i)).add(slot);
+                }
+            }
+            if (field.isApproximate) {
+                addWords(field, field.wordsOf(fields), slot);
+            }
+        }
+        noteIndex.add(slot, fields.note);
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the index, if the index is built.
+     */
+    void remove(Person person) {
+        if (!isBuilt) {
+            return;
+        }
+        Integer slot = slotsByPerson.remove(person);
+        assert slot != null;
+        personsBySlot.set(slot, null);
+        occupiedSlots.clear(slot);
+
+        int slotCount = personsBySlot.size();
+        if (slotCount >= MIN_REBUILT_SLOTS && slotsByPerson.size() < slotCount / 2) {
+            List<Person> persons = new ArrayList<>(slotsByPerson.size());
+            occupiedSlots.stream().forEach(occupiedSlot -> persons.add(personsBySlot.get(occupiedSlot)));
+            build(persons);
+        }
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up whether each of the indexed persons matches,
+     * having found all the matching persons upfront, and only tests the persons added since against
+     * {@code predicate}. The candidates are tested in parallel if there are at least {@code parallelThreshold} of
+     * them. The index must be built.
+     */
+    Predicate<Person> search(PersonContainsKeywordsPredicate predicate, int parallelThreshold) {
+        requireNonNull(predicate);
+        assert isBuilt;
+        assert parallelThreshold >= 0;
+
+        BitSet candidates = new BitSet(personsBySlot.size());
+        for (Field field : Field.values()) {
+            if (field.isSearchedBy(predicate)) {
+                for (String keyword : predicate.getExactKeywords()) {
+                    addCandidates(candidates, field, keyword);
+                }
+            }
+        }
+
+        candidates.and(occupiedSlots);
+        long[] matchWords = new long[(personsBySlot.size() + Long.SIZE - 1) / Long.SIZE];
+        ExactMatchTask task = new ExactMatchTask(predicate, candidates, matchWords, 0,
+                (personsBySlot.size() + PARALLEL_CHUNK_SLOTS - 1) / PARALLEL_CHUNK_SLOTS);
+        if (candidates.cardinality() >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.testCandidates(0, personsBySlot.size());
+        }
+        BitSet matches = BitSet.valueOf(matchWords);
+        if (predicate.isApproximate()) {
+            BitSet approximateMatches = new BitSet(personsBySlot.size());
+            for (String keyword : predicate.getApproximateKeywords()) {
+                addApproximateMatches(approximateMatches, predicate, keyword);
+            }
+            approximateMatches.and(occupiedSlots);
+            matches.or(approximateMatches);
+        }
+        if (predicate.isSearchByNote()) {
+            matches.or(findNoteMatches(predicate));
+        }
+        return new SearchResult(this, predicate, matches, personsBySlot.size(), generation);
+    }
+
+    /**
+     * Returns the slots of the persons whose notes contain any of the note phrases of {@code predicate}, scanning
+     * only the notes that are too long to be fully indexed.
+     */
+    private BitSet findNoteMatches(PersonContainsKeywordsPredicate predicate) {
+        BitSet matches = new BitSet(personsBySlot.size());
+        BitSet unindexed = new BitSet(personsBySlot.size());
+        for (String[] phrase : predicate.getNotePhrases()) {
+            noteIndex.find(phrase, matches, unindexed);
+        }
+        unindexed.andNot(matches);
+        unindexed.and(occupiedSlots);
+        unindexed.stream().filter(slot -> predicate.matchesNote(personsBySlot.get(slot))).forEach(matches::set);
+        matches.and(occupiedSlots);
+        return matches;
+    }
+
+    /**
+     * Maps the {@code words} of {@code field} to {@code slot}.
+     */
+    private void addWords(Field field, String[] words, int slot) {
+        for (String token : words) {
+            SlotList[] slotLists = slotsByToken.getOrAdd(token, () -> new SlotList[Field.values().length]);
+            if (slotLists[field.ordinal()] == null) {
+                slotLists[field.ordinal()] = new SlotList();
+            }
+            slotLists[field.ordinal()].add(slot);
+        }
+    }
+
+    /**
+     * Adds the slots of the persons with a word, in any of the approximately matched fields searched by
+     * {@code predicate}, that is within the maximum edit distance of {@code keyword} to {@code matches}.
+     * Only the distinct words close to the keyword are visited, rather than every word of every person.
+     */
+    private void addApproximateMatches(BitSet matches, PersonContainsKeywordsPredicate predicate, String keyword) {
+        slotsByToken.forEachWithin(keyword, PersonContainsKeywordsPredicate.MAX_EDIT_DISTANCE, (token, slotLists) -> {
+            for (Field field : Field.values()) {
+                SlotList slotList = slotLists[field.ordinal()];
+                if (slotList != null && field.isSearchedBy(predicate)) {
+                    for (int i = 0; i < slotList.size; i++) {
+                        matches.set(slotList.slots[i]);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds the slots of the persons whose {@code field} may contain {@code keyword} to {@code candidates}:
+     * the slots of every person if the keyword is too short to have a trigram, and otherwise the slots that all the
+     * trigrams of the keyword have in common.
+     */
+    private void addCandidates(BitSet candidates, Field field, String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            candidates.or(occupiedSlots);
+            return;
+        }
+
+        SlotList[] slotLists = new SlotList[keyword.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < slotLists.length; i++) {
+            slotLists[i] = slotsByGram.get(gramAt(field, keyword, i));
+            if (slotLists[i] == null) {
+                return;
+            }
+        }
+        Arrays.sort(slotLists, Comparator.comparingInt(slotList -> slotList.size));
+
+        // every slot of the shortest list is looked up in the longer lists, which are searched from where the
+        // previous slot was found, as the slots are in increasing order
+        int[] starts = new int[slotLists.length];
+        SlotList shortest = slotLists[0];
+        for (int i = 0; i < shortest.size; i++) {
+            int slot = shortest.slots[i];
+            boolean isInAll = true;
+            for (int j = 1; j < slotLists.length && isInAll; j++) {
+                int found = Arrays.binarySearch(slotLists[j].slots, starts[j], slotLists[j].size, slot);
+                isInAll = found >= 0;
+                starts[j] = isInAll ? found + 1 : -found - 1;
+            }
+            if (isInAll) {
+                candidates.set(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the trigram of {@code field} starting at {@code index} of {@code value}.
+     */
+    private static long gramAt(Field field, String value, int index) {
+        long gram = field.ordinal();
+        for (int i = index; i < index + GRAM_LENGTH; i++) {
+            gram = (gram << Character.SIZE) | value.charAt(i);
+        }
+        return gram;
+    }
+
+    /**
+     * The slots of the persons whose fields contain a trigram, in increasing order.
+     */
+    private static final class SlotList {
+        private int[] slots = new int[1];
+        private int size;
+
+        /**
+         * Adds {@code slot}, which must not be smaller than any slot in the list, unless it is already in the list.
+         */
+        private void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+
+    /**
+     * The slot lists of the trigrams in the index, in an open addressing hash table keyed by the trigrams themselves,
+     * as the index is filled with tens of millions of lookups of trigrams that would otherwise have to be boxed.
+     */
+    private static final class GramTable {
+        private static final int INITIAL_CAPACITY = 1 << 10;
+
+        private long[] grams = new long[INITIAL_CAPACITY];
+        private SlotList[] slotLists = new SlotList[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Returns the slot list of {@code gram}, or null if no person contains it.
+         */
+        private SlotList get(long gram) {
+            return slotLists[find(grams, slotLists, gram)];
+        }
+
+        /**
+         * Returns the slot list of {@code gram}, adding an empty one if no person contains it yet.
+         */
+        private SlotList getOrAdd(long gram) {
+            int i = find(grams, slotLists, gram);
+            if (slotLists[i] != null) {
+                return slotLists[i];
+            }
+
+            SlotList slotList = new SlotList();
+            grams[i] = gram;
+            slotLists[i] = slotList;
+            if (++size > grams.length / 2) {
+                grow();
+            }
+            return slotList;
+        }
+
+        private void clear() {
+            grams = new long[INITIAL_CAPACITY];
+            slotLists = new SlotList[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        private void grow() {
+            long[] newGrams = new long[grams.length * 2];
+            SlotList[] newSlotLists = new SlotList[slotLists.length * 2];
+            for (int i = 0; i < grams.length; i++) {
+                if (slotLists[i] != null) {
+                    int j = find(newGrams, newSlotLists, grams[i]);
+                    newGrams[j] = grams[i];
+                    newSlotLists[j] = slotLists[i];
+                }
+            }
+            grams = newGrams;
+            slotLists = newSlotLists;
+        }
+
+        /**
+         * Returns the index of {@code gram} in the table, or the empty index where it would be added.
+         */
+        private static int find(long[] grams, SlotList[] slotLists, long gram) {
+            int mask = grams.length - 1;
+            int i = Long.hashCode(gram * 0x9E3779B97F4A7C15L) & mask;
+            while (slotLists[i] != null && grams[i] != gram) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+    }
+
+    /**
+     * Tests the candidates of a search in a range of chunks of slots against the fields searched by the predicate
+     * other than the notes, which are searched by the {@code NoteIndex}, setting the bits of the
+     * matching slots in the words of the result. Ranges of more than one chunk are split in half, and the halves are
+     * tested in parallel.
+     */
+    private final class ExactMatchTask extends RecursiveAction {
+        private final PersonContainsKeywordsPredicate predicate;
+        private final BitSet candidates;
+        private final long[] matchWords;
+        private final int fromChunk;
+        private final int toChunk;
+
+        private ExactMatchTask(PersonContainsKeywordsPredicate predicate, BitSet candidates, long[] matchWords,
+                int fromChunk, int toChunk) {
+            this.predicate = predicate;
+            this.candidates = candidates;
+            this.matchWords = matchWords;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middleChunk = (fromChunk + toChunk) >>> 1;
+                invokeAll(new ExactMatchTask(predicate, candidates, matchWords, fromChunk, middleChunk),
+                        new ExactMatchTask(predicate, candidates, matchWords, middleChunk, toChunk));
+            } else if (toChunk > fromChunk) {
+                testCandidates(fromChunk * PARALLEL_CHUNK_SLOTS,
+                        Math.min(toChunk * PARALLEL_CHUNK_SLOTS, personsBySlot.size()));
+            }
+        }
+
+        /**
+         * Tests the candidates in the slots from {@code fromSlot} (inclusive) to {@code toSlot} (exclusive).
+         */
+        private void testCandidates(int fromSlot, int toSlot) {
+            for (int slot = candidates.nextSetBit(fromSlot); slot >= 0 && slot < toSlot;
+                    slot = candidates.nextSetBit(slot + 1)) {
+                if (predicate.matchesFieldsExactly(personsBySlot.get(slot))) {
+                    matchWords[slot / Long.SIZE] |= 1L << slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * The persons found by a search of the index, which tests the persons added to the index after the search
+     * against the predicate searched for instead.
+     */
+    private static final class SearchResult implements Predicate<Person> {
+        private final PersonSearchIndex index;
+        private final PersonContainsKeywordsPredicate predicate;
+        private final BitSet matches;
+        private final int searchedSlotCount;
+        private final int generation;
+
+        private SearchResult(PersonSearchIndex index, PersonContainsKeywordsPredicate predicate, BitSet matches,
+                int searchedSlotCount, int generation) {
+            this.index = index;
+            this.predicate = predicate;
+            this.matches = matches;
+            this.searchedSlotCount = searchedSlotCount;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            Integer slot = index.generation == generation ? index.slotsByPerson.get(person) : null;
+            if (slot == null || slot >= searchedSlotCount) {
+                return predicate.test(person);
+            }
+            return matches.get(slot);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Represents an order in which persons can be sorted, as given by the prefixes of a sort command:
+ * either a single field, or tags followed by another field to order the persons with the same tags.
+ *
+ * Persons are compared by sort keys that are computed once per person rather than once per comparison:
+ * phone numbers by their numeric value, names and addresses ignoring case and accents, emails by their text,
+ * and tags by their names in sorted order, with persons without tags ordered last.
+ */
+public class PersonSortOrder {
+
+    /** Lists with at least this many persons are sorted in parallel. */
+    public static final int PARALLEL_SORT_THRESHOLD = 10_000;
+
+    private static final String TAG_PREFIX = "t/";
+
+    /** Separates the parts of a key, ordering a key after any key that it extends. */
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Comparator<SortKey> KEY_ORDER = SortKey::compareTo;
+
+    /**
+     * A field of a person that persons can be sorted by.
+     */
+    public enum Field {
+        NAME("n/"),
+        PHONE("p/"),
+        EMAIL("e/"),
+        ADDRESS("a/"),
+        TAG(TAG_PREFIX);
+
+        private final String prefix;
+
+        Field(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * Returns the field with the given sort {@code prefix}.
+         *
+         * @throws IllegalArgumentException if no field has the given prefix.
+         */
+        public static Field of(String prefix) {
+            requireNonNull(prefix);
+            for (Field field : values()) {
+                if (field.prefix.equals(prefix)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Invalid sort prefix.");
+        }
+
+        /**
+         * Returns the sort key of this field of {@code person}, or null if the person has no value for this field.
+         */
+        private Comparable<?> keyOf(Person person) {
+            switch (this) {
+            case NAME:
+                return textKeyOf(person.getName().fullName);
+            case PHONE:
+                // phone numbers have at most 15 digits, so they always fit in a long
+                return Long.parseLong(person.getPhone().value);
+            case EMAIL:
+                return person.getEmail().value;
+            case ADDRESS:
+                return textKeyOf(person.getAddress().value);
+            case TAG:
+                return tagKeyOf(person);
+            default:
+                throw new AssertionError(this);
+            }
+        }
+    }
+
+    private final Field[] fields;
+
+    private PersonSortOrder(Field... fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Returns the order by the single given {@code field}.
+     */
+    public static PersonSortOrder of(Field field) {
+        requireNonNull(field);
+        return new PersonSortOrder(field);
+    }
+
+    /**
+     * Returns the order given by the sort {@code prefixes}: either a single prefix, or the tag prefix followed by
+     * the prefix of another field.
+     *
+     * @throws IllegalArgumentException if the prefixes do not describe a valid order.
+     */
+    public static PersonSortOrder of(String... prefixes) {
+        requireNonNull(prefixes);
+        if (prefixes.length == 1) {
+            return new PersonSortOrder(Field.of(prefixes[0]));
+        } else if (prefixes.length == 2 && prefixes[0].equals(TAG_PREFIX) && !prefixes[1].equals(TAG_PREFIX)) {
+            try {
+                return new PersonSortOrder(Field.TAG, Field.of(prefixes[1]));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid combination of prefixes.");
+            }
+        } else if (prefixes.length > 2) {
+            throw new IllegalArgumentException("Invalid number of prefixes.");
+        } else {
+            throw new IllegalArgumentException("Invalid combination of prefixes.");
+        }
+    }
+
+    /**
+     * Returns the persons in {@code persons} sorted in this order, as a new list.
+     * The sort is stable, and is done in parallel if there are at least {@link #PARALLEL_SORT_THRESHOLD} persons.
+     */
+    public List<Person> sort(List<Person> persons) {
+        int[] sortedPositions = sortedPositions(persons);
+        Person[] sortedPersons = new Person[sortedPositions.length];
+        for (int i = 0; i < sortedPositions.length; i++) {
+            sortedPersons[i] = persons.get(sortedPositions[i]);
+        }
+        return Arrays.asList(sortedPersons);
+    }
+
+    /**
+     * Sorts {@code persons} in this order like {@link #sort(List)}, but returns the position in {@code persons} of
+     * the person at each position of the sorted list instead, leaving it to the caller to move the persons.
+     */
+    public int[] sortedPositions(List<Person> persons) {
+        requireNonNull(persons);
+        SortKey[] keys = keysOf(persons);
+        if (keys.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(keys, KEY_ORDER);
+        } else {
+            Arrays.sort(keys, KEY_ORDER);
+        }
+
+        int[] sortedPositions = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sortedPositions[i] = keys[i].position;
+        }
+        return sortedPositions;
+    }
+
+    /**
+     * Returns a comparator that orders persons in this order.
+     * The sort keys of {@code persons} are computed upfront, while those of any other person are computed
+     * whenever it is compared, so the comparator is cheapest when used to sort {@code persons}.
+     */
+    public Comparator<Person> comparatorFor(Collection<Person> persons) {
+        requireNonNull(persons);
+        Map<Person, SortKey> keysByPerson = new IdentityHashMap<>(persons.size());
+        for (SortKey key : keysOf(persons)) {
+            keysByPerson.put(key.person, key);
+        }
+        return (first, second) -> keyFor(keysByPerson, first).compareTo(keyFor(keysByPerson, second));
+    }
+
+    private SortKey keyFor(Map<Person, SortKey> keysByPerson, Person person) {
+        SortKey key = keysByPerson.get(person);
+        return key != null ? key : keyOf(person);
+    }
+
+    /**
+     * Returns the sort key of {@code person} in this order.
+     */
+    SortKey keyOf(Person person) {
+        return new SortKey(person, -1, fields);
+    }
+
+    /**
+     * Returns the sort keys of {@code persons}, in the same order, computing them in parallel for large lists.
+     */
+    private SortKey[] keysOf(Collection<Person> persons) {
+        Person[] personArray = persons.toArray(new Person[0]);
+        SortKey[] keys = new SortKey[personArray.length];
+        IntStream indexes = IntStream.range(0, personArray.length);
+        if (personArray.length >= PARALLEL_SORT_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> keys[i] = new SortKey(personArray[i], i, fields));
+        return keys;
+    }
+
+    /**
+     * Returns a key that orders {@code text} ignoring case and accents, and then by the text itself, so that texts
+     * differing only in case or accents are still ordered deterministically.
+     * This orders text like a collation key does, at a fraction of the cost of computing a collation key.
+     */
+    private static String textKeyOf(String text) {
+        String unaccentedText = isAscii(text)
+                ? text
+                : COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return unaccentedText.toLowerCase(Locale.ROOT) + KEY_SEPARATOR + text;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the names of the tags of {@code person} in sorted order as a single string,
+     * or null if the person has no tags.
+     */
+    private static String tagKeyOf(Person person) {
+        Set<Tag> tags = person.getTags();
+        if (tags.isEmpty()) {
+            return null;
+        }
+        String[] tagNames = new String[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            tagNames[i++] = tag.tagName;
+        }
+        Arrays.sort(tagNames);
+        return String.join(KEY_SEPARATOR, tagNames);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortOrder)) {
+            return false;
+        }
+
+        PersonSortOrder otherOrder = (PersonSortOrder) other;
+        return Arrays.equals(fields, otherOrder.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(fields);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(fields);
+    }
+
+    /**
+     * A person and its position in the list being sorted, together with the sort keys of the fields it is sorted by.
+     * The start of the first key is also packed into a number, so that most comparisons during a sort only compare
+     * two numbers held by the sort keys themselves, rather than following references to the keys of the fields.
+     */
+    static final class SortKey implements Comparable<SortKey> {
+        /** Number of characters of a text key that are packed into its prefix, at one byte per character. */
+        private static final int PREFIX_LENGTH = Long.BYTES;
+
+        private final Person person;
+        private final int position;
+        private final Comparable<?>[] keys;
+        private final long prefix;
+
+        private SortKey(Person person, int position, Field[] fields) {
+            this.person = person;
+            this.position = position;
+            this.keys = new Comparable<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                keys[i] = fields[i].keyOf(person);
+            }
+            this.prefix = prefixOf(keys[0]);
+        }
+
+        /**
+         * Returns a number that, when compared as an unsigned number, orders {@code key} before, after or the same as
+         * the keys of the same field that it is ordered before, after or possibly the same as respectively.
+         */
+        private static long prefixOf(Object key) {
+            if (key == null) {
+                return -1L;
+            } else if (key instanceof Long) {
+                return (Long) key;
+            }
+
+            String text = key.toString();
+            long prefix = 0;
+            for (int i = 0; i < PREFIX_LENGTH; i++) {
+                // characters are shifted up by one to order a text before the texts that it is the start of,
+                // and the rare characters that do not fit in a byte are treated as the same
+                int packedChar = i < text.length() ? Math.min(text.charAt(i) + 1, 0xFF) : 0;
+                prefix = (prefix << Byte.SIZE) | packedChar;
+            }
+            return prefix;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compareTo(SortKey other) {
+            int prefixResult = Long.compareUnsigned(prefix, other.prefix);
+            if (prefixResult != 0) {
+                return prefixResult;
+            }
+
+            for (int i = 0; i < keys.length; i++) {
+                Comparable<Object> key = (Comparable<Object>) keys[i];
+                Object otherKey = other.keys[i];
+                if (key == otherKey) {
+                    continue;
+                }
+                // a missing key, i.e. no tags, is ordered last
+                if (key == null) {
+                    return 1;
+                } else if (otherKey == null) {
+                    return -1;
+                }
+                int result = key.compareTo(otherKey);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The results of the latest searches of a {@code UniquePersonList}, keyed by the predicate searched for and the
+ * version of the list that was searched, so that repeating a search, e.g. by undoing and redoing a find, looks up its
+ * result instead of evaluating the predicate again.
+ *
+ * The results are the bit sets of the matching slots found by the {@code PersonSearchIndex} of the list, and at most
+ * {@code capacity} of them are kept, the least recently used one being evicted first. As the version of the list only
+ * ever increases, the results of an earlier version can never be looked up again, so they are all evicted as soon as
+ * a search of a later version is looked up.
+ */
+public final class SearchResultCache {
+
+    /** The default number of results kept. */
+    static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<PersonContainsKeywordsPredicate, Predicate<Person>> resultsByPredicate;
+    private long version;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache that keeps at most {@code capacity} results.
+     */
+    SearchResultCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        resultsByPredicate = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PersonContainsKeywordsPredicate, Predicate<Person>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of searching version {@code version} of the list for {@code predicate}, or null if it is not
+     * cached. Counts the lookup as a hit or a miss.
+     */
+    Predicate<Person> get(PersonContainsKeywordsPredicate predicate, long version) {
+        requireNonNull(predicate);
+        evictOlderThan(version);
+        Predicate<Person> result = resultsByPredicate.get(predicate);
+        if (result == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return result;
+    }
+
+    /**
+     * Caches {@code result} as the result of searching version {@code version} of the list for {@code predicate}.
+     */
+    void put(PersonContainsKeywordsPredicate predicate, long version, Predicate<Person> result) {
+        requireAllNonNull(predicate, result);
+        evictOlderThan(version);
+        if (version == this.version) {
+            resultsByPredicate.put(predicate, result);
+        }
+    }
+
+    /**
+     * Returns the number of lookups so far, and how many of them found a cached result.
+     */
+    Statistics getStatistics() {
+        return new Statistics(hitCount, missCount, resultsByPredicate.size());
+    }
+
+    private void evictOlderThan(long version) {
+        if (version > this.version) {
+            resultsByPredicate.clear();
+            this.version = version;
+        }
+    }
+
+    /**
+     * The number of lookups of a {@code SearchResultCache} that found a cached result and that did not.
+     */
+    public static final class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final int size;
+
+        private Statistics(long hitCount, long missCount, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.size = size;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Returns the number of results currently cached.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the fraction of the lookups that found a cached result, or 0 if there were no lookups.
+         */
+        public double getHitRate() {
+            long lookupCount = hitCount + missCount;
+            return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Statistics)) {
+                return false;
+            }
+
+            Statistics otherStatistics = (Statistics) other;
+            return hitCount == otherStatistics.hitCount
+                    && missCount == otherStatistics.missCount
+                    && size == otherStatistics.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hitCount, missCount, size);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("hitCount", hitCount)
+                    .add("missCount", missCount)
+                    .add("size", size)
+                    .add("hitRate", getHitRate())
+                    .toString();
+        }
+    }
+}
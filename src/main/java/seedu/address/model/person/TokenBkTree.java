@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree of distinct tokens, each mapped to a value, which finds all the tokens within a given Levenshtein distance
+ * of a query without computing the distance to every token.
+ *
+ * Every token is a child of the token it was compared to on its way down from the root, at the distance between the
+ * two. As the Levenshtein distance is a metric, a token within distance {@code k} of the query can only be found under
+ * a token at distance {@code d} from the query among the children at a distance from {@code d - k} to {@code d + k}.
+ *
+ * @param <V> the type of the values mapped to the tokens.
+ */
+final class TokenBkTree<V> {
+
+    private final Map<String, Node<V>> nodesByToken = new HashMap<>();
+    private Node<V> root;
+
+    int size() {
+        return nodesByToken.size();
+    }
+
+    /**
+     * Returns the value mapped to {@code token}, first adding the token with the value given by {@code newValue}
+     * if it is not in the tree yet.
+     */
+    V getOrAdd(String token, Supplier<V> newValue) {
+        requireAllNonNull(token, newValue);
+        Node<V> node = nodesByToken.get(token);
+        if (node != null) {
+            return node.value;
+        }
+
+        node = new Node<>(token, newValue.get());
+        nodesByToken.put(token, node);
+        if (root == null) {
+            root = node;
+            return node.value;
+        }
+
+        Node<V> parent = root;
+        while (true) {
+            int distance = StringUtil.levenshteinDistance(token, parent.token);
+            Node<V> child = parent.childAt(distance);
+            if (child == null) {
+                parent.setChildAt(distance, node);
+                return node.value;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Passes every token within a Levenshtein distance of {@code maxDistance} of {@code query}, and its value, to
+     * {@code action}.
+     */
+    void forEachWithin(String query, int maxDistance, BiConsumer<String, V> action) {
+        requireAllNonNull(query, action);
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node<V>> unvisited = new ArrayDeque<>();
+        unvisited.push(root);
+        while (!unvisited.isEmpty()) {
+            Node<V> node = unvisited.pop();
+            int distance = StringUtil.levenshteinDistance(query, node.token);
+            if (distance <= maxDistance) {
+                action.accept(node.token, node.value);
+            }
+            int last = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int i = Math.max(distance - maxDistance, 0); i <= last; i++) {
+                if (node.children[i] != null) {
+                    unvisited.push(node.children[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all the tokens from the tree.
+     */
+    void clear() {
+        nodesByToken.clear();
+        root = null;
+    }
+
+    /**
+     * A token in the tree, with its children indexed by their distance to the token.
+     */
+    private static final class Node<V> {
+        private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+        private final String token;
+        private final V value;
+        private Node<V>[] children = noChildren();
+
+        private Node(String token, V value) {
+            this.token = token;
+            this.value = value;
+        }
+
+        private Node<V> childAt(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChildAt(int distance, Node<V> child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] noChildren() {
+            return (Node<V>[]) NO_CHILDREN;
+        }
+    }
+}
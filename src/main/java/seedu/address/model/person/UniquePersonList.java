@@ -3,12 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.math.BigInteger;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -20,22 +27,61 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code Email}, the identity field used by {@code Person#isSamePerson(Person)},
+ * so that identity lookups and duplicate checks take constant time regardless of the size of the list.
+ * Each person is also given a {@code PersonId} that is kept across edits, and the position of every id in the list is
+ * maintained across reorderings, so that the person to be edited, pinned or removed is found in constant time.
+ * A {@code PersistentPersonList} copy of the list is kept up to date alongside, so that snapshots of the list can be
+ * taken in constant time.
+ * The list also keeps a {@code PersonOrderIndex} for every order it has been sorted in, which is updated as persons are
+ * added, edited and removed, so that sorting in one of those orders again does not need to sort the whole list.
+ * Similarly, once the list is first searched, a {@code PersonSearchIndex} of the persons is kept up to date, so that
+ * searching the list does not need to test every person. The results of the latest searches are kept in a
+ * {@code SearchResultCache}, keyed by the version of the list, which is increased by every change to the list, so
+ * that a search is only evaluated again once the list has changed since. The versions are drawn from a counter shared
+ * by all lists, so that a changed list never has the same version as another list, and a version identifies the
+ * contents of the list it was taken from, e.g. to tell whether they have been saved since.
+ * Once {@link #startRecordingChanges()} is called, every change made to the list is also recorded as a
+ * {@code PersonListChange}, so that the changes can later be undone and redone.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** The last version given to any list, which every change to a list increments. */
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Email, PersonId> idsByEmail = new HashMap<>();
+    private final Map<PersonId, Integer> positionsById = new HashMap<>();
+    private final Map<PersonSortOrder, PersonOrderIndex> orderIndexes = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private final SearchResultCache searchResultCache = new SearchResultCache(SearchResultCache.DEFAULT_CAPACITY);
+    private PersistentPersonList persistentPersons = PersistentPersonList.EMPTY;
+    private List<PersonListChange> recordedChanges;
+
+    /** Increased whenever the list is changed, so that the results of searching an earlier version can tell. */
+    private long version;
+
+    /**
+     * Creates an empty list.
+     */
+    public UniquePersonList() {
+        internalList.addListener((ListChangeListener<Person>) change -> {
+            version = lastVersion.incrementAndGet();
+        });
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return idsByEmail.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -47,7 +93,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        PersonId id = PersonId.next();
+        int index = internalList.size();
+        insertAt(index, id, toAdd);
+        record(new PersonListChange.Added(index, id, toAdd));
     }
 
     /**
@@ -58,7 +107,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,7 +116,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        // the edited person keeps the id, and hence the position, of the target
+        PersonId id = idsByEmail.get(target.getEmail());
+        replaceAt(index, id, editedPerson);
+        record(new PersonListChange.Replaced(index, id, target, editedPerson));
     }
 
     /**
@@ -76,27 +128,186 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        PersonId id = idsByEmail.get(toRemove.getEmail());
+        removeAt(index);
+        record(new PersonListChange.Removed(index, id, toRemove));
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * As {@code replacement} is already known to be unique, its persons are not revalidated.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        PersistentPersonList previousPersons = persistentPersons;
+        idsByEmail.clear();
+        idsByEmail.putAll(replacement.idsByEmail);
+        positionsById.clear();
+        positionsById.putAll(replacement.positionsById);
+        orderIndexes.clear();
+        searchIndex.clear();
+        persistentPersons = replacement.persistentPersons;
         internalList.setAll(replacement.internalList);
+        record(new PersonListChange.Reset(previousPersons, persistentPersons));
+    }
+
+    /**
+     * Replaces the contents of this list with the persons, and their ids, in {@code replacement}.
+     * As {@code replacement} was taken from a {@code UniquePersonList}, its persons are not revalidated.
+     */
+    public void setPersons(PersistentPersonList replacement) {
+        requireNonNull(replacement);
+        PersistentPersonList previousPersons = persistentPersons;
+        restore(replacement);
+        record(new PersonListChange.Reset(previousPersons, persistentPersons));
+    }
+
+    /**
+     * Replaces the contents of this list with the persons, and their ids, in {@code replacement}, without recording
+     * the change.
+     */
+    void restore(PersistentPersonList replacement) {
+        List<Person> persons = replacement.toList();
+        List<PersonId> ids = replacement.toIdList();
+
+        idsByEmail.clear();
+        positionsById.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            idsByEmail.put(persons.get(i).getEmail(), ids.get(i));
+            positionsById.put(ids.get(i), i);
+        }
+        orderIndexes.clear();
+        searchIndex.clear();
+        persistentPersons = replacement;
+        internalList.setAll(persons);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicated email if {@code persons} contains duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Email, PersonId> replacementIds = assignIds(persons);
+
+        PersistentPersonList previousPersons = persistentPersons;
+        idsByEmail.clear();
+        idsByEmail.putAll(replacementIds);
+        positionsById.clear();
+        orderIndexes.clear();
+        searchIndex.clear();
+        internalList.setAll(persons);
+        reindex();
+        record(new PersonListChange.Reset(previousPersons, persistentPersons));
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate}, but which has already found the persons in the list
+     * that match, using the search index of the list. The index is only built the first time the list is searched.
+     * Searches that test at least {@code parallelThreshold} persons, building the index included, test them in
+     * parallel. The result of an earlier search for an equal predicate is returned instead if the list has not
+     * changed since.
+     */
+    public Predicate<Person> search(PersonContainsKeywordsPredicate predicate, int parallelThreshold) {
+        requireNonNull(predicate);
+        Predicate<Person> cachedResult = searchResultCache.get(predicate, version);
+        if (cachedResult != null) {
+            return cachedResult;
         }
 
-        internalList.setAll(persons);
+        if (!searchIndex.isBuilt()) {
+            if (internalList.size() >= parallelThreshold) {
+                // the search forms of the fields are cached by each person, so the index is then filled without them
+                internalList.parallelStream().forEach(Person::getSearchFields);
+            }
+            searchIndex.build(internalList);
+        }
+        Predicate<Person> result = searchIndex.search(predicate, parallelThreshold);
+        searchResultCache.put(predicate, version, result);
+        return result;
+    }
+
+    /**
+     * Returns the ranking of the persons in the list that match the ranked {@code predicate}, found using the search
+     * index of the list as by {@link #search(PersonContainsKeywordsPredicate, int)}.
+     */
+    public PersonRanking rank(PersonContainsKeywordsPredicate predicate, int parallelThreshold) {
+        requireNonNull(predicate);
+        return PersonRanking.rank(predicate, search(predicate, parallelThreshold), internalList);
+    }
+
+    /**
+     * Returns the number of searches of the list whose results were cached, and of those that were evaluated.
+     */
+    public SearchResultCache.Statistics getSearchResultCacheStatistics() {
+        return searchResultCache.getStatistics();
+    }
+
+    /**
+     * Returns the version of the list, which is increased by every change to the list.
+     * Empty lists that were never changed have version 0, and no two lists have the same version once changed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list, in constant time.
+     * Later changes to this list do not affect the returned copy.
+     */
+    public PersistentPersonList snapshot() {
+        return persistentPersons;
+    }
+
+    /**
+     * Starts recording the changes made to this list, if they are not already being recorded.
+     */
+    public void startRecordingChanges() {
+        if (recordedChanges == null) {
+            recordedChanges = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns the changes recorded since the last call to this method, in the order they were made,
+     * and starts a new recording. Returns an empty list if changes are not being recorded.
+     */
+    public List<PersonListChange> takeRecordedChanges() {
+        if (recordedChanges == null) {
+            return List.of();
+        }
+        List<PersonListChange> changes = recordedChanges;
+        recordedChanges = new ArrayList<>();
+        return changes;
+    }
+
+    /**
+     * Reverts {@code changes}, which must be the last changes made to this list, in the reverse order.
+     * Reverting the changes is not itself recorded.
+     */
+    public void undoChanges(List<PersonListChange> changes) {
+        requireNonNull(changes);
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo(this);
+        }
+    }
+
+    /**
+     * Makes {@code changes}, which must be the last changes undone in this list, again in the original order.
+     * Redoing the changes is not itself recorded.
+     */
+    public void redoChanges(List<PersonListChange> changes) {
+        requireNonNull(changes);
+        for (PersonListChange change : changes) {
+            change.redo(this);
+        }
     }
 
     /**
@@ -113,14 +324,16 @@ public class UniquePersonList implements Iterable<Person> {
     public void pinPerson(Person toPin) {
         requireNonNull(toPin);
 
-        int index = internalList.indexOf(toPin);
+        int index = indexOf(toPin);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        // Remove and reinsert at the first position
-        internalList.remove(index);
-        internalList.add(0, toPin);
+        if (index == 0) {
+            return;
+        }
+        move(index, 0);
+        record(new PersonListChange.Moved(index, 0));
     }
 
     /**
@@ -130,7 +343,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void unpinPerson(Person toUnpin) {
         requireNonNull(toUnpin);
 
-        int index = internalList.indexOf(toUnpin);
+        int index = indexOf(toUnpin);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -138,210 +351,322 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Moves all the pinned people to the top of the list, retaining the sort order among the pinned people.
+     * Moves all the pinned people to the top of the list, retaining the sort order among the pinned people
+     * and among the unpinned people.
+     * The list is partitioned in a single pass and updated with a single change, if it is not already partitioned.
      */
     public void prioritisePins() {
-        int pinnedIndex = 0;
-        for (int i = 0; i < internalUnmodifiableList.size(); i++) {
-            Person person = internalUnmodifiableList.get(i);
+        List<Person> pinnedPersons = new ArrayList<>();
+        List<Person> unpinnedPersons = new ArrayList<>();
+        boolean isPartitioned = true;
+        for (Person person : internalList) {
             if (person.getPin().isPinned()) {
-                int index = internalList.indexOf(person);
-                internalList.remove(index);
-                internalList.add(pinnedIndex, person);
-                pinnedIndex++;
+                isPartitioned = isPartitioned && unpinnedPersons.isEmpty();
+                pinnedPersons.add(person);
+            } else {
+                unpinnedPersons.add(person);
             }
         }
-    }
 
-
-    @Override
-    public Iterator<Person> iterator() {
-        return internalList.iterator();
+        if (isPartitioned) {
+            return;
+        }
+        pinnedPersons.addAll(unpinnedPersons);
+        internalList.setAll(pinnedPersons);
+        reindexReordered();
     }
 
-    @Override
-    public boolean equals(Object other) {
-        if (other == this) {
-            return true;
+    /**
+     * Sorts the list in the given {@code order} while keeping pinned persons at the top of the list.
+     * Pinned persons are sorted in the same order, and the whole reordering is fired as a single change.
+     * The persons are ordered by traversing the index of the order, which is only built the first time the list is
+     * sorted in that order.
+     */
+    private void sortPinnedFirst(PersonSortOrder order) {
+        PersonOrderIndex orderIndex = orderIndexes.computeIfAbsent(order, newOrder ->
+                new PersonOrderIndex(newOrder, internalList, persistentPersons.toIdList()));
+        assert orderIndex.size() == internalList.size();
+        int[] sortedPositions = orderIndex.sortedPositions(positionsById::get);
+        int[] previousPositions = new int[sortedPositions.length];
+        int pinnedCount = 0;
+        for (int position : sortedPositions) {
+            if (internalList.get(position).getPin().isPinned()) {
+                previousPositions[pinnedCount++] = position;
+            }
         }
-
-        // instanceof handles nulls
-        if (!(other instanceof UniquePersonList)) {
-            return false;
+        int unpinnedCount = 0;
+        for (int position : sortedPositions) {
+            if (!internalList.get(position).getPin().isPinned()) {
+                previousPositions[pinnedCount + unpinnedCount++] = position;
+            }
         }
 
-        UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        PersonListChange change = describeReordering(previousPositions);
+        if (change == null) {
+            return;
+        }
+        reorder(previousPositions);
+        record(change);
     }
 
-    @Override
-    public int hashCode() {
-        return internalList.hashCode();
-    }
+    //// primitive changes, which keep the indexes up to date but are not recorded
 
-    @Override
-    public String toString() {
-        return internalList.toString();
+    /**
+     * Inserts {@code person} with the given {@code id} at {@code index}.
+     */
+    void insertAt(int index, PersonId id, Person person) {
+        idsByEmail.put(person.getEmail(), id);
+        orderIndexes.values().forEach(orderIndex -> orderIndex.add(id, person));
+        searchIndex.add(person);
+        persistentPersons = persistentPersons.add(index, id, person);
+        internalList.add(index, person);
+        updatePositionsFrom(index);
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Removes the person at {@code index}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    void removeAt(int index) {
+        Person person = internalList.get(index);
+        PersonId id = idsByEmail.remove(person.getEmail());
+        positionsById.remove(id);
+        orderIndexes.values().forEach(orderIndex -> orderIndex.remove(id, person));
+        searchIndex.remove(person);
+        persistentPersons = persistentPersons.remove(index);
+        internalList.remove(index);
+        updatePositionsFrom(index);
     }
 
     /**
-     * Sorts the list of persons based on the specified prefix such as name, phone number, email address, address, tags.
-     *
-     * @param prefixes The prefix indicates the sorting criteria.
+     * Replaces the person at {@code index} with {@code person}, which takes the given {@code id}.
      */
-    public void sortBy(String... prefixes) {
-        if (prefixes.length == 1) {
-            sortSinglePrefix(prefixes[0]);
-        } else if (prefixes.length == 2 && prefixes[0].equals("t/")) {
-            sortWithinTags(prefixes[1]);
-        } else if (prefixes.length > 2) {
-            throw new IllegalArgumentException("Invalid number of prefixes.");
-        } else {
-            throw new IllegalArgumentException("Invalid combination of prefixes.");
-        }
+    void replaceAt(int index, PersonId id, Person person) {
+        Person replacedPerson = internalList.get(index);
+        PersonId replacedId = idsByEmail.remove(replacedPerson.getEmail());
+        idsByEmail.put(person.getEmail(), id);
+        orderIndexes.values().forEach(orderIndex -> {
+            orderIndex.remove(replacedId, replacedPerson);
+            orderIndex.add(id, person);
+        });
+        searchIndex.remove(replacedPerson);
+        searchIndex.add(person);
+        persistentPersons = persistentPersons.set(index, id, person);
+        internalList.set(index, person);
     }
 
     /**
-     * Sorts the list based on a single prefix.
-     *
-     * @param prefix The prefix indicating the sorting criteria.
-     * @throws IllegalArgumentException If the provided prefix is invalid or unrecognized.
-     */
-    private void sortSinglePrefix(String prefix) {
-        switch (prefix) {
-        case "t/":
-            sortByTags();
-            break;
-        case "n/":
-            sortByName();
-            break;
-        case "p/":
-            sortByPhoneNumber();
-            break;
-        case "e/":
-            sortByEmailAddress();
-            break;
-        case "a/":
-            sortByAddress();
-            break;
-        default:
-            throw new IllegalArgumentException("Invalid sort prefix.");
-        }
-    }
-
-    /**
-     * Sorts the list by a specified attribute within the tag grouping. The first prefix is "t/" to indicate
-     * sorting by tags, and the second prefix indicates the attribute to sort within each tag group.
-     *
-     * @param secondPrefix The second prefix indicating the sorting criteria within the tags.
-     * @throws IllegalArgumentException If the combination of prefixes is invalid or unrecognized.
+     * Moves the person at {@code from} to {@code to}, shifting the persons in between by one position.
+     * The move is fired as a single change.
      */
-    private void sortWithinTags(String secondPrefix) {
-        switch (secondPrefix) {
-        case "n/":
-            sortByNameWithinTags();
-            break;
-        case "p/":
-            sortByPhoneNumberWithinTags();
-            break;
-        case "e/":
-            sortByEmailAddressWithinTags();
-            break;
-        case "a/":
-            sortByAddressWithinTags();
-            break;
-        default:
-            throw new IllegalArgumentException("Invalid combination of prefixes.");
+    void move(int from, int to) {
+        PersonId id = persistentPersons.getId(from);
+        List<Person> reordered = new ArrayList<>(internalList);
+        Person person = reordered.remove(from);
+        reordered.add(to, person);
+        internalList.setAll(reordered);
+
+        persistentPersons = persistentPersons.remove(from).add(to, id, person);
+        for (int i = Math.min(from, to); i <= Math.max(from, to); i++) {
+            positionsById.put(idsByEmail.get(internalList.get(i).getEmail()), i);
         }
     }
 
     /**
-     * Sort the list by name.
+     * Reorders the list so that the person at each position {@code i} is the one currently at
+     * {@code previousPositions[i]}.
      */
-    private void sortByName() {
-        internalList.sort(Comparator.comparing(p -> p.getName().toString()));
-        prioritisePins();
+    void reorder(int[] previousPositions) {
+        List<PersonId> ids = persistentPersons.toIdList();
+        List<Person> reorderedPersons = new ArrayList<>(ids.size());
+        List<PersonId> reorderedIds = new ArrayList<>(ids.size());
+        for (int i = 0; i < previousPositions.length; i++) {
+            PersonId id = ids.get(previousPositions[i]);
+            reorderedPersons.add(internalList.get(previousPositions[i]));
+            reorderedIds.add(id);
+            positionsById.put(id, i);
+        }
+        persistentPersons = PersistentPersonList.of(reorderedPersons, reorderedIds);
+        internalList.setAll(reorderedPersons);
     }
 
     /**
-     * Sort the list by phone number.
+     * Reverts {@link #reorder(int[])}, moving the person at each position {@code i} back to
+     * {@code previousPositions[i]}.
      */
-    private void sortByPhoneNumber() {
-        internalList.sort(Comparator.comparing(p -> new BigInteger(p.getPhone().toString())));
-        prioritisePins();
+    void restoreOrder(int[] previousPositions) {
+        List<PersonId> ids = persistentPersons.toIdList();
+        Person[] restoredPersons = new Person[ids.size()];
+        PersonId[] restoredIds = new PersonId[ids.size()];
+        for (int i = 0; i < previousPositions.length; i++) {
+            restoredPersons[previousPositions[i]] = internalList.get(i);
+            restoredIds[previousPositions[i]] = ids.get(i);
+            positionsById.put(ids.get(i), previousPositions[i]);
+        }
+        List<Person> restoredList = Arrays.asList(restoredPersons);
+        persistentPersons = PersistentPersonList.of(restoredList, Arrays.asList(restoredIds));
+        internalList.setAll(restoredList);
+    }
+
+    private void record(PersonListChange change) {
+        if (recordedChanges != null) {
+            recordedChanges.add(change);
+        }
     }
 
     /**
-     * Sort the list by email address.
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is no such person.
+     * As persons are unique by email, this looks up the only possible candidate instead of scanning the list.
      */
-    private void sortByEmailAddress() {
-        internalList.sort(Comparator.comparing(p -> p.getEmail().toString()));
-        prioritisePins();
+    private int indexOf(Person person) {
+        PersonId id = idsByEmail.get(person.getEmail());
+        if (id == null) {
+            return -1;
+        }
+
+        int index = positionsById.get(id);
+        return internalList.get(index).equals(person) ? index : -1;
     }
 
     /**
-     * Sort the list by address.
+     * Records the current position of every person in the list and rebuilds the persistent copy of the list.
+     * Must be called after the persons in the list are reordered.
      */
-    private void sortByAddress() {
-        internalList.sort(Comparator.comparing(p -> p.getAddress().toString()));
-        prioritisePins();
+    private void reindex() {
+        List<PersonId> ids = new ArrayList<>(internalList.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            PersonId id = idsByEmail.get(internalList.get(i).getEmail());
+            ids.add(id);
+            positionsById.put(id, i);
+        }
+        persistentPersons = PersistentPersonList.of(internalList, ids);
     }
 
     /**
-     * Sort the list by tags.
+     * Same as {@link #reindex()}, but also records how the persons in the list were reordered.
+     * Must be called after the persons in the list are reordered, but not added, removed or replaced.
      */
-    private void sortByTags() {
-        internalList.sort(Comparator.comparing(p -> p.getTags().toString()));
-        prioritisePins();
+    private void reindexReordered() {
+        int[] previousPositions = new int[internalList.size()];
+        List<PersonId> ids = new ArrayList<>(internalList.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            PersonId id = idsByEmail.get(internalList.get(i).getEmail());
+            ids.add(id);
+            previousPositions[i] = positionsById.put(id, i);
+        }
+        persistentPersons = PersistentPersonList.of(internalList, ids);
+
+        PersonListChange change = describeReordering(previousPositions);
+        if (change != null) {
+            record(change);
+        }
     }
 
     /**
-     * Sort the list first by tags, then by name within each tag group.
+     * Records the current position of every person from {@code start} to the end of the list.
+     * Must be called after persons are shifted by a removal, so that the positions of their ids stay up to date.
      */
-    private void sortByNameWithinTags() {
-        internalList.sort(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getName().toString()));
-        prioritisePins();
+    private void updatePositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionsById.put(idsByEmail.get(internalList.get(i).getEmail()), i);
+        }
+    }
+
+
+    @Override
+    public Iterator<Person> iterator() {
+        return internalList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UniquePersonList)) {
+            return false;
+        }
+
+        UniquePersonList otherUniquePersonList = (UniquePersonList) other;
+        return internalList.equals(otherUniquePersonList.internalList);
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return internalList.toString();
     }
 
     /**
-     * Sort the list first by tags, then by phone number within each tag group.
+     * Assigns a new id to each of {@code persons} and indexes the ids by email in a single pass,
+     * checking that the persons are all unique along the way.
+     *
+     * @throws DuplicatePersonException listing every duplicated email if {@code persons} contains duplicate persons.
      */
-    private void sortByPhoneNumberWithinTags() {
-        internalList.sort(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> new BigInteger(p.getPhone().toString())));
-        prioritisePins();
+    private static Map<Email, PersonId> assignIds(List<Person> persons) {
+        Map<Email, PersonId> ids = new HashMap<>();
+        Set<Email> duplicateEmails = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (ids.putIfAbsent(person.getEmail(), PersonId.next()) != null) {
+                duplicateEmails.add(person.getEmail());
+            }
+        }
+
+        if (!duplicateEmails.isEmpty()) {
+            throw new DuplicatePersonException(new ArrayList<>(duplicateEmails));
+        }
+        return ids;
     }
 
     /**
-     * Sort the list first by tags, then by email address within each tag group.
+     * Returns the change that moves the person at each position {@code i} to {@code previousPositions[i]},
+     * or null if no person was moved.
+     * A reordering that only moves a single person, e.g. pinning, is described without holding every position.
      */
-    private void sortByEmailAddressWithinTags() {
-        internalList.sort(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getEmail().toString()));
-        prioritisePins();
+    private static PersonListChange describeReordering(int[] previousPositions) {
+        int first = 0;
+        while (first < previousPositions.length && previousPositions[first] == first) {
+            first++;
+        }
+        if (first == previousPositions.length) {
+            return null;
+        }
+        int last = previousPositions.length - 1;
+        while (previousPositions[last] == last) {
+            last--;
+        }
+
+        // every person in between was shifted down by one, to make space for the person moved up
+        boolean isMovedUp = previousPositions[first] == last;
+        for (int i = first + 1; i <= last && isMovedUp; i++) {
+            isMovedUp = previousPositions[i] == i - 1;
+        }
+        if (isMovedUp) {
+            return new PersonListChange.Moved(last, first);
+        }
+
+        boolean isMovedDown = previousPositions[last] == first;
+        for (int i = first; i < last && isMovedDown; i++) {
+            isMovedDown = previousPositions[i] == i + 1;
+        }
+        if (isMovedDown) {
+            return new PersonListChange.Moved(first, last);
+        }
+        return new PersonListChange.Reordered(previousPositions);
     }
 
     /**
-     * Sort the list first by tags, then by address within each tag group.
+     * Sorts the list of persons based on the specified prefix such as name, phone number, email address, address, tags.
+     *
+     * @param prefixes The prefix indicates the sorting criteria.
+     * @throws IllegalArgumentException If the prefixes do not describe a valid sort order.
      */
-    private void sortByAddressWithinTags() {
-        internalList.sort(Comparator.comparing((Person p) -> p.getTags().toString())
-                .thenComparing(p -> p.getAddress().toString()));
-        prioritisePins();
+    public void sortBy(String... prefixes) {
+        sortPinnedFirst(PersonSortOrder.of(prefixes));
     }
 }
@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * The journal of an address book: a file of the entries saved since the last checkpoint of the address book, one per
+ * line, which are only ever appended to it.
+ *
+ * Every entry is forced to the disk before {@link #append(String)} returns. An entry torn by a crash while it was
+ * being appended is left without a line separator, and is not read back. The entries included in a checkpoint are
+ * discarded by replacing the file with a copy of the entries after them, so a crash at any point leaves either the old
+ * or the new journal.
+ *
+ * The journal is thread-safe, so that the entries can be appended while a checkpoint is written in the background.
+ */
+final class AddressBookJournal {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final Path path;
+    private FileChannel channel;
+    private long size;
+
+    /**
+     * Creates a journal kept in the file at {@code path}. Entries are appended after the entries kept by
+     * {@link #truncate(long)}, or from the start of the file if it was never truncated.
+     */
+    AddressBookJournal(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the size of the entries in the journal, in bytes.
+     */
+    synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Returns the complete entries in the journal, in the order they were appended, or an empty list if there is no
+     * journal file.
+     */
+    synchronized List<Entry> read() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return entries;
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == LINE_SEPARATOR) {
+                entries.add(new Entry(new String(bytes, start, i - start, StandardCharsets.UTF_8), i + 1));
+                start = i + 1;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Discards everything in the journal after its first {@code length} bytes, such as an entry that was torn by a
+     * crash, so that the entries appended next follow the entries kept.
+     */
+    synchronized void truncate(long length) throws IOException {
+        close();
+        size = length;
+        openChannel();
+    }
+
+    /**
+     * Appends {@code entry}, which must not contain a line separator, to the journal and forces it to the disk.
+     * If the entry cannot be appended, the journal is left as it was.
+     */
+    synchronized void append(String entry) throws IOException {
+        openChannel();
+        byte[] entryBytes = entry.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(entryBytes.length + 1).put(entryBytes).put(LINE_SEPARATOR).flip();
+        try {
+            channel.position(size);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            try {
+                channel.truncate(size);
+            } catch (IOException truncateException) {
+                e.addSuppressed(truncateException);
+            }
+            throw e;
+        }
+        size += buffer.limit();
+    }
+
+    /**
+     * Discards the entries in the first {@code length} bytes of the journal, which are included in a checkpoint.
+     */
+    synchronized void discardBefore(long length) throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        openChannel();
+        try (FileChannel tempChannel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = length;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, tempChannel);
+            }
+            tempChannel.force(false);
+        }
+        close();
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        size -= length;
+    }
+
+    /**
+     * Closes the journal file, which is opened again when the journal is next changed.
+     */
+    synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void openChannel() throws IOException {
+        if (channel == null) {
+            FileUtil.createParentDirsOfFile(path);
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.READ);
+            if (channel.size() > size) {
+                channel.truncate(size);
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * A complete entry of the journal, and the offset of the end of its line in the journal file.
+     */
+    static final class Entry {
+        private final String text;
+        private final long end;
+
+        private Entry(String text, long end) {
+            this.text = text;
+            this.end = end;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        long getEnd() {
+            return end;
+        }
+    }
+}
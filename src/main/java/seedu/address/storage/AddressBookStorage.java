@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -30,6 +34,14 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the reasons the persons skipped by the last address book read could not be loaded, one for each of them.
+     * By default, no persons are skipped.
+     */
+    default List<String> getSkippedPersonMessages() {
+        return Collections.emptyList();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +54,27 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns a save of the given {@link ReadOnlyAddressBook} as it is now, which can be written to the storage later,
+     * on another thread. The saves taken from a storage must be written one at a time, in the order they were taken.
+     * By default, the save is a snapshot of the address book, which is written by {@link #saveAddressBook}.
+     * @param addressBook cannot be null.
+     */
+    default PendingSave takeSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                saveAddressBook(snapshot);
+            }
+
+            @Override
+            public PendingSave followedBy(PendingSave later) {
+                // every save writes the whole address book
+                return later;
+            }
+        };
+    }
+
 }
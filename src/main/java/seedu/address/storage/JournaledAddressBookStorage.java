@@ -0,0 +1,389 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json checkpoint file, and a journal of the changes
+ * saved since the checkpoint was written.
+ *
+ * Saving an address book only appends the changes made to its persons since it was last saved to the journal, as a
+ * single entry of {@code PersonListSplice}s recorded from the changes to its person list, so the time taken by a save
+ * depends on the size of the changes and not on the size of the address book. Once the journal grows to half the size
+ * of the checkpoint, or to {@code minCheckpointInterval} bytes if that is larger, a snapshot of the address book is
+ * written as the new checkpoint on a background thread, and the entries it includes are then discarded from the
+ * journal. Loading the address book replays the entries of the journal that follow the checkpoint on top of it.
+ *
+ * The entries are numbered in sequence, and the checkpoint records the number of the last entry it includes, so a
+ * crash at any point leaves a checkpoint and a journal that load the address book as it was last saved.
+ *
+ * The changes are recorded on the thread that changes the address book, but the saves taken of them by
+ * {@link #takeSave} can be written on another thread, as long as they are written one at a time, in order.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** The default smallest size of the journal, in bytes, at which a checkpoint is written. */
+    public static final long DEFAULT_MIN_CHECKPOINT_INTERVAL = 1 << 20;
+
+    public static final String MESSAGE_INVALID_SPLICE = "Journal entry does not fit the persons it follows!";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AddressBookJournal journal;
+    private final long minCheckpointInterval;
+    private final ExecutorService checkpointExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<PersonListSplice> pendingSplices = new ArrayList<>();
+    private final ListChangeListener<Person> changeRecorder = change -> pendingSplices.addAll(
+            PersonListSplice.of(change));
+
+    /** The person list whose changes are recorded, which is that of the address book last saved. */
+    private ObservableList<Person> trackedPersons;
+    /** The persons last read from the file, until the changes to an address book are recorded. */
+    private List<Person> persistedPersons;
+    private long lastSequence;
+    private volatile long checkpointSize;
+    private Future<?> checkpoint;
+    private PendingSave unwrittenSave;
+    private List<String> skippedPersonMessages = Collections.emptyList();
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a storage that writes a checkpoint once its journal grows to at least {@code minCheckpointInterval}
+     * bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, long minCheckpointInterval) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journal = new AddressBookJournal(journalPathOf(filePath));
+        this.minCheckpointInterval = minCheckpointInterval;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the file path of the journal of the data file at {@code filePath}.
+     */
+    public static Path journalPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The entries of the journal are replayed up to the first one that cannot be read back or replayed, such as an
+     * entry that was torn by a crash, which is discarded along with the entries after it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        JsonAddressBookLoader loader = new JsonAddressBookLoader(filePath);
+        skippedPersonMessages = Collections.emptyList();
+        Optional<List<Person>> loadedPersons = loader.loadPersons();
+        skippedPersonMessages = loader.getSkippedPersonMessages();
+        if (!loadedPersons.isPresent()) {
+            return Optional.empty();
+        }
+        // the persons that could not be loaded are kept as null until the journal is replayed, as the positions the
+        // entries change are those in the file
+        List<Person> persons = loadedPersons.get();
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        AddressBookJournal fileJournal = isOwnFile ? journal : new AddressBookJournal(journalPathOf(filePath));
+        long sequence = loader.getJournalSequence();
+        long journalEnd = 0;
+        try {
+            for (AddressBookJournal.Entry entry : fileJournal.read()) {
+                Optional<Long> replayedSequence = replay(entry, sequence, persons);
+                if (!replayedSequence.isPresent()) {
+                    break;
+                }
+                sequence = replayedSequence.get();
+                journalEnd = entry.getEnd();
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + fileJournal.getPath() + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(loader.getSkippedPersonMessages().isEmpty()
+                    ? persons
+                    : persons.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+        } catch (DuplicatePersonException e) {
+            logger.info("Duplicate persons found in the journal of " + filePath);
+            throw new DataLoadingException(e);
+        }
+
+        if (isOwnFile && trackedPersons == null) {
+            try {
+                journal.truncate(journalEnd);
+                checkpointSize = Files.size(filePath);
+            } catch (IOException e) {
+                logger.warning("Error truncating journal file " + journal.getPath() + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            lastSequence = sequence;
+            persistedPersons = persons;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Makes the splices of {@code entry} to {@code persons}, which include the entries up to {@code sequence}, and
+     * returns the sequence of the last entry the persons then include. Returns an empty {@code Optional}, leaving the
+     * persons unchanged, if the entry cannot be read back, or does not follow or fit the persons.
+     */
+    private static Optional<Long> replay(AddressBookJournal.Entry entry, long sequence, List<Person> persons) {
+        try {
+            JsonAdaptedJournalEntry jsonEntry = JsonUtil.fromJsonString(entry.getText(), JsonAdaptedJournalEntry.class);
+            if (jsonEntry.getSequence() <= sequence) {
+                // an entry included in the checkpoint that was not discarded before a crash
+                return Optional.of(sequence);
+            }
+            if (jsonEntry.getSequence() != sequence + 1) {
+                logger.warning("Journal entry " + jsonEntry.getSequence() + " does not follow entry " + sequence);
+                return Optional.empty();
+            }
+
+            List<PersonListSplice> splices = jsonEntry.toModelType();
+            int size = persons.size();
+            for (PersonListSplice splice : splices) {
+                if (!splice.fits(size)) {
+                    throw new IllegalValueException(MESSAGE_INVALID_SPLICE);
+                }
+                size = splice.sizeAfter(size);
+            }
+            splices.forEach(splice -> splice.applyTo(persons));
+            return Optional.of(sequence + 1);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Invalid journal entry after entry " + sequence + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<String> getSkippedPersonMessages() {
+        return skippedPersonMessages;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes to the address book are saved to its own file. The changes that could not be saved are saved
+     * along with the next changes. The address book is written as a whole to any other file, whose journal is deleted.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookWriter.write(addressBook, 0, filePath);
+            Files.deleteIfExists(journalPathOf(filePath));
+            return;
+        }
+
+        PendingSave save = takeSave(addressBook);
+        if (unwrittenSave != null) {
+            save = unwrittenSave.followedBy(save);
+        }
+        unwrittenSave = save;
+        save.write();
+        unwrittenSave = null;
+    }
+
+    /**
+     * Returns a save of the changes made to {@code addressBook} since its last save was taken, which were recorded from
+     * its person list, along with a snapshot of it.
+     * If the changes to the address book are not recorded yet, they start being recorded, and the save is taken as the
+     * difference from the persons last read from the file if they are known, and as a new checkpoint otherwise.
+     */
+    @Override
+    public PendingSave takeSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ObservableList<Person> persons = addressBook.getPersonList();
+        if (persons == trackedPersons) {
+            List<PersonListSplice> splices = new ArrayList<>(pendingSplices);
+            pendingSplices.clear();
+            return new JournalSave(splices, addressBook.snapshot());
+        }
+
+        boolean isJournalKnown = trackedPersons != null;
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeRecorder);
+            pendingSplices.clear();
+        }
+        PendingSave save = persistedPersons != null
+                ? new JournalSave(PersonListSplice.between(persistedPersons, persons), addressBook.snapshot())
+                : new CheckpointSave(addressBook.snapshot(), isJournalKnown);
+        persistedPersons = null;
+        trackedPersons = persons;
+        trackedPersons.addListener(changeRecorder);
+        return save;
+    }
+
+    private void appendEntry(List<PersonListSplice> splices) throws IOException {
+        long sequence = lastSequence + 1;
+        List<JsonAdaptedPersonListSplice> jsonSplices = splices.stream()
+                .map(JsonAdaptedPersonListSplice::new)
+                .collect(Collectors.toList());
+        journal.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(sequence, jsonSplices)));
+        lastSequence = sequence;
+    }
+
+    /**
+     * Writes {@code snapshot}, which includes every entry in the journal, as the new checkpoint on the background
+     * thread, unless a checkpoint is already being written.
+     */
+    private void startCheckpoint(ReadOnlyAddressBook snapshot) {
+        if (checkpoint != null && !checkpoint.isDone()) {
+            return;
+        }
+        long sequence = lastSequence;
+        long journalEnd = journal.size();
+        checkpoint = checkpointExecutor.submit(() -> {
+            try {
+                checkpointSize = JsonAddressBookWriter.write(snapshot, sequence, filePath);
+                journal.discardBefore(journalEnd);
+            } catch (IOException e) {
+                // the entries are only discarded once they are in a checkpoint, so nothing is lost
+                logger.warning("Error writing checkpoint " + filePath + ", the journal is kept: " + e);
+            }
+        });
+    }
+
+    /**
+     * Waits for the checkpoint being written on the background thread, if any, to be written.
+     */
+    void awaitCheckpoint() {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            checkpoint.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Error writing checkpoint " + filePath + ": " + e.getCause());
+        }
+    }
+
+    /**
+     * A save of the changes made to the address book since the last save was taken, which appends them to the journal
+     * as a single entry, and starts a checkpoint of the snapshot of the address book once the journal is large enough.
+     */
+    private class JournalSave implements PendingSave {
+        private final List<PersonListSplice> splices;
+        private final ReadOnlyAddressBook snapshot;
+
+        private JournalSave(List<PersonListSplice> splices, ReadOnlyAddressBook snapshot) {
+            this.splices = splices;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (!splices.isEmpty()) {
+                appendEntry(splices);
+            }
+            if (journal.size() >= Math.max(minCheckpointInterval, checkpointSize / 2)) {
+                startCheckpoint(snapshot);
+            }
+        }
+
+        @Override
+        public PendingSave followedBy(PendingSave later) {
+            if (!(later instanceof JournalSave)) {
+                return later;
+            }
+            List<PersonListSplice> allSplices = new ArrayList<>(splices);
+            allSplices.addAll(((JournalSave) later).splices);
+            return new JournalSave(allSplices, ((JournalSave) later).snapshot);
+        }
+    }
+
+    /**
+     * A save of an address book whose changes were not recorded before, which writes its snapshot as a new checkpoint
+     * that includes every entry in the journal.
+     */
+    private class CheckpointSave implements PendingSave {
+        private final ReadOnlyAddressBook snapshot;
+        private final boolean isJournalKnown;
+
+        private CheckpointSave(ReadOnlyAddressBook snapshot, boolean isJournalKnown) {
+            this.snapshot = snapshot;
+            this.isJournalKnown = isJournalKnown;
+        }
+
+        @Override
+        public void write() throws IOException {
+            awaitCheckpoint();
+            if (!isJournalKnown) {
+                // the entries in the journal, if any, were never replayed, and do not lead to the address book saved
+                journal.truncate(0);
+            }
+            checkpointSize = JsonAddressBookWriter.write(snapshot, lastSequence, filePath);
+            journal.discardBefore(journal.size());
+        }
+
+        @Override
+        public PendingSave followedBy(PendingSave later) {
+            // the changes saved later are made to the snapshot, so a checkpoint of their snapshot includes them all
+            return later instanceof JournalSave
+                    ? new CheckpointSave(((JournalSave) later).snapshot, isJournalKnown)
+                    : later;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of an entry of the journal of an address book: the splices made to its person list
+ * between two saves, numbered by the sequence of the entry in the journal.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final long sequence;
+    private final List<JsonAdaptedPersonListSplice> splices = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence,
+            @JsonProperty("splices") List<JsonAdaptedPersonListSplice> splices) {
+        this.sequence = sequence;
+        if (splices != null) {
+            this.splices.addAll(splices);
+        }
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Converts the splices of this Jackson-friendly adapted entry into {@code PersonListSplice} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted splices.
+     */
+    public List<PersonListSplice> toModelType() throws IllegalValueException {
+        List<PersonListSplice> modelSplices = new ArrayList<>(splices.size());
+        for (JsonAdaptedPersonListSplice splice : splices) {
+            modelSplices.add(splice.toModelType());
+        }
+        return modelSplices;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link PersonListSplice}.
+ */
+class JsonAdaptedPersonListSplice {
+
+    public static final String MESSAGE_INVALID_SPLICE = "Splice's index and number of removed persons must not be "
+            + "negative!";
+
+    private final int at;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonListSplice} with the given splice details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonListSplice(@JsonProperty("at") int at, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.at = at;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts a given {@code PersonListSplice} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonListSplice(PersonListSplice source) {
+        at = source.getAt();
+        removed = source.getRemovedCount();
+        persons.addAll(source.getPersons().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted splice object into a {@code PersonListSplice} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted splice.
+     */
+    public PersonListSplice toModelType() throws IllegalValueException {
+        if (at < 0 || removed < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_SPLICE);
+        }
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType());
+        }
+        return new PersonListSplice(at, removed, modelPersons);
+    }
+}
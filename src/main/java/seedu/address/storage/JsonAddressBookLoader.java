@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads the persons of an address book from a JSON file written from a {@code JsonSerializableAddressBook}.
+ *
+ * The file is parsed as it is read, and each person is converted to a {@code Person} as soon as it is parsed, so that
+ * neither the contents of the file nor the {@code JsonAdaptedPerson}s of all its persons are held in memory at once.
+ * A person that cannot be converted, e.g. as one of its fields is invalid, or as it has the same email as an earlier
+ * person, is skipped and reported, and the other persons are still loaded. Only a file that is not an address book in
+ * JSON at all fails to load.
+ */
+class JsonAddressBookLoader {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "The file does not contain an address book.";
+    public static final String MESSAGE_INVALID_PERSONS = "The persons of the address book are not a list.";
+    public static final String MESSAGE_INVALID_JOURNAL_SEQUENCE = "The journal sequence is not a number.";
+    public static final String MESSAGE_NOT_PERSON = "Not a person.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Has the same email as an earlier person: %1$s";
+    public static final String MESSAGE_SKIPPED_PERSON = "Skipped person %1$d in %2$s: %3$s";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookLoader.class);
+
+    private final Path filePath;
+    private final List<String> skippedPersonMessages = new ArrayList<>();
+    private long journalSequence;
+
+    /**
+     * Creates a {@code JsonAddressBookLoader} of the address book in the file at {@code filePath}.
+     */
+    JsonAddressBookLoader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the persons in the file, in the order they are in the file, or {@code Optional.empty()} if the file is
+     * not found. Each person that was skipped is left in the list as null, so that the other persons are at the same
+     * positions as in the file.
+     *
+     * @throws DataLoadingException if the file could not be read, or is not an address book in JSON.
+     */
+    Optional<List<Person>> loadPersons() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        List<Person> persons = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            readAddressBook(parser, persons);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (!skippedPersonMessages.isEmpty()) {
+            logger.warning(skippedPersonMessages.size() + " persons in " + filePath + " could not be loaded.");
+        }
+        return Optional.of(persons);
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry included in the persons loaded, or 0 if there is none.
+     */
+    long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the reasons the persons skipped could not be loaded, one for each of them.
+     */
+    List<String> getSkippedPersonMessages() {
+        return Collections.unmodifiableList(skippedPersonMessages);
+    }
+
+    private void readAddressBook(JsonParser parser, List<Person> persons) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals("persons")) {
+                readPersons(parser, value, persons);
+            } else if (fieldName.equals("journalSequence")) {
+                if (value != JsonToken.VALUE_NUMBER_INT) {
+                    throw new JsonParseException(parser, MESSAGE_INVALID_JOURNAL_SEQUENCE);
+                }
+                journalSequence = parser.getLongValue();
+            } else {
+                // unknown fields are ignored, as when the whole address book is read at once
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readPersons(JsonParser parser, JsonToken value, List<Person> persons) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (value != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_INVALID_PERSONS);
+        }
+
+        JsonStreamContext personsContext = parser.getParsingContext();
+        Set<Email> emails = new HashSet<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Person person = null;
+            try {
+                person = readPerson(parser, emails);
+            } catch (JsonMappingException e) {
+                skipPerson(persons.size(), e.getOriginalMessage());
+                skipRestOfPerson(parser, personsContext);
+            } catch (IllegalValueException e) {
+                skipPerson(persons.size(), e.getMessage());
+            }
+            persons.add(person);
+        }
+    }
+
+    private static Person readPerson(JsonParser parser, Set<Email> emails) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            throw new IllegalValueException(MESSAGE_NOT_PERSON);
+        }
+        Person person = JsonUtil.fromJsonParser(parser, JsonAdaptedPerson.class).toModelType();
+        if (!emails.add(person.getEmail())) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, person.getEmail()));
+        }
+        return person;
+    }
+
+    /**
+     * Skips the rest of the person that {@code parser} failed to convert part way through, up to the end of it in the
+     * list of persons, whose context is {@code personsContext}.
+     * Any part of the file that is not valid JSON, even in a person, still fails the whole load.
+     */
+    private static void skipRestOfPerson(JsonParser parser, JsonStreamContext personsContext) throws IOException {
+        while (parser.getParsingContext() != personsContext) {
+            parser.skipChildren();
+            if (parser.nextToken() == null) {
+                throw new JsonParseException(parser, MESSAGE_INVALID_PERSONS);
+            }
+        }
+    }
+
+    private void skipPerson(int index, String reason) {
+        String message = String.format(MESSAGE_SKIPPED_PERSON, index + 1, filePath, reason);
+        logger.warning(message);
+        skippedPersonMessages.add(message);
+    }
+}
@@ -4,24 +4,23 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
     private Path filePath;
+    private List<String> skippedPersonMessages = Collections.emptyList();
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -38,6 +37,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Persons in the file that cannot be loaded are skipped, and the other persons are still read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,18 +45,25 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        JsonAddressBookLoader loader = new JsonAddressBookLoader(filePath);
+        skippedPersonMessages = Collections.emptyList();
+        Optional<List<Person>> persons = loader.loadPersons();
+        skippedPersonMessages = loader.getSkippedPersonMessages();
+        if (!persons.isPresent()) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+        // the persons skipped are left as null, which the address book does not hold
+        List<Person> loadedPersons = persons.get();
+        loadedPersons.removeIf(Objects::isNull);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(loadedPersons);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public List<String> getSkippedPersonMessages() {
+        return skippedPersonMessages;
     }
 
     @Override
@@ -73,8 +80,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookWriter.write(addressBook, 0, filePath);
     }
 
 }
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes address books to JSON files in the form of a {@code JsonSerializableAddressBook}, on a single line.
+ *
+ * The persons are converted to {@code JsonAdaptedPerson}s and written one at a time by a {@code JsonGenerator}, through
+ * a buffer into the channel of the file, so that writing an address book only needs a constant amount of memory
+ * however many persons it has, instead of the whole file being built as a string first.
+ * An address book is written to a temporary file next to the file, which is forced to the disk and then moved over the
+ * file, so that a crash while writing leaves the file as it was.
+ */
+class JsonAddressBookWriter {
+
+    /** The size of the buffer the JSON data is written through, in bytes. */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes {@code addressBook}, which includes the journal entries up to {@code journalSequence}, to
+     * {@code filePath}, and returns the size of the file written.
+     * A {@code journalSequence} of 0, for an address book that includes no journal entries, is not written.
+     *
+     * @throws IOException if the file could not be written, in which case it is left as it was.
+     */
+    static long write(ReadOnlyAddressBook addressBook, long journalSequence, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path tempPath = tempPathOf(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try {
+            writeTempFile(addressBook, journalSequence, tempPath);
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        return Files.size(filePath);
+    }
+
+    /**
+     * Returns the path of the temporary file that the file at {@code filePath} is written to before it is replaced.
+     */
+    static Path tempPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".tmp");
+    }
+
+    private static void writeTempFile(ReadOnlyAddressBook addressBook, long journalSequence, Path tempPath)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                JsonGenerator generator = JsonUtil.createGenerator(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE))) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            Iterator<Person> persons = addressBook.personIterator();
+            while (persons.hasNext()) {
+                generator.writeObject(new JsonAdaptedPerson(persons.next()));
+            }
+            generator.writeEndArray();
+            if (journalSequence != 0) {
+                generator.writeNumberField("journalSequence", journalSequence);
+            }
+            generator.writeEndObject();
+
+            // the data is on the disk before the file replaces the one it is written for
+            generator.flush();
+            channel.force(true);
+        }
+    }
+}
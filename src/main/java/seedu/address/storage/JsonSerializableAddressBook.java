@@ -5,13 +5,16 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,15 +23,23 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_EMAILS = MESSAGE_DUPLICATE_PERSON + " Duplicate email(s): %1$s";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
+    /** The sequence number of the last journal entry included in the persons, omitted if there is none. */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
+
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, which include the journal entries up to
+     * {@code journalSequence}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("journalSequence") Long journalSequence) {
         this.persons.addAll(persons);
+        this.journalSequence = journalSequence == null ? 0 : journalSequence;
     }
 
     /**
@@ -37,7 +48,25 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook}, which includes the journal entries up to {@code journalSequence},
+     * into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long journalSequence) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry included in the persons, or 0 if there is none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
@@ -46,13 +75,19 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            String duplicateEmails = e.getDuplicateEmails().stream()
+                    .map(Email::toString)
+                    .collect(Collectors.joining(", "));
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_EMAILS, duplicateEmails));
         }
         return addressBook;
     }
@@ -0,0 +1,25 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save of an address book that has been taken from an {@code AddressBookStorage}, but not yet written to it.
+ * Taking a save captures the address book as it is at that time, so the save can be written later, on another thread,
+ * while the address book keeps changing.
+ */
+public interface PendingSave {
+
+    /**
+     * Writes this save to the storage it was taken from.
+     * A save that could not be written can be written again, or be followed by later saves and written with them.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns a save that has the same effect as writing this save and then {@code later}, which was taken from the
+     * same storage after this save, with as few writes as possible.
+     */
+    PendingSave followedBy(PendingSave later);
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+
+/**
+ * A change to a list of persons that replaces {@code removedCount} persons starting at index {@code at} with
+ * {@code persons}. Every change to a list can be made by a sequence of splices, which is how the changes to the person
+ * list of an address book are recorded in its journal.
+ */
+final class PersonListSplice {
+
+    private final int at;
+    private final int removedCount;
+    private final List<Person> persons;
+
+    /**
+     * Creates a splice that replaces {@code removedCount} persons starting at index {@code at} with {@code persons}.
+     */
+    PersonListSplice(int at, int removedCount, List<? extends Person> persons) {
+        requireNonNull(persons);
+        if (at < 0 || removedCount < 0) {
+            throw new IllegalArgumentException("Index and number of removed persons must not be negative.");
+        }
+        this.at = at;
+        this.removedCount = removedCount;
+        this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+    }
+
+    /**
+     * Returns the splices that make {@code change}, in order, leaving out the persons that are removed and added back
+     * at the same index, e.g. by a replacement of the whole list that only moves a person.
+     * Updates of persons in place are not changes to the list, and make no splices.
+     */
+    static List<PersonListSplice> of(ListChangeListener.Change<? extends Person> change) {
+        requireNonNull(change);
+        List<PersonListSplice> splices = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int start = from;
+                int end = change.getTo();
+                while (start < end && change.getPermutation(start) == start) {
+                    start++;
+                }
+                while (end > start && change.getPermutation(end - 1) == end - 1) {
+                    end--;
+                }
+                if (start < end) {
+                    splices.add(new PersonListSplice(start, end - start, change.getList().subList(start, end)));
+                }
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                addTrimmed(splices, from, change.getRemoved(), change.getAddedSubList());
+            }
+        }
+        return splices;
+    }
+
+    /**
+     * Returns the splices that change {@code before} into {@code after}, which replace the persons between the longest
+     * common prefix and the longest common suffix of the two lists.
+     */
+    static List<PersonListSplice> between(List<Person> before, List<Person> after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        List<PersonListSplice> splices = new ArrayList<>();
+        addTrimmed(splices, 0, before, after);
+        return splices;
+    }
+
+    private static void addTrimmed(List<PersonListSplice> splices, int from, List<? extends Person> removed,
+            List<? extends Person> added) {
+        int start = 0;
+        while (start < removed.size() && start < added.size() && removed.get(start) == added.get(start)) {
+            start++;
+        }
+        int removedEnd = removed.size();
+        int addedEnd = added.size();
+        while (removedEnd > start && addedEnd > start && removed.get(removedEnd - 1) == added.get(addedEnd - 1)) {
+            removedEnd--;
+            addedEnd--;
+        }
+        if (removedEnd > start || addedEnd > start) {
+            splices.add(new PersonListSplice(from + start, removedEnd - start, added.subList(start, addedEnd)));
+        }
+    }
+
+    int getAt() {
+        return at;
+    }
+
+    int getRemovedCount() {
+        return removedCount;
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns true if the splice can be made to a list of {@code size} persons.
+     */
+    boolean fits(int size) {
+        return at <= size && removedCount <= size - at;
+    }
+
+    /**
+     * Returns the number of persons in a list of {@code size} persons after the splice is made to it.
+     */
+    int sizeAfter(int size) {
+        return size - removedCount + persons.size();
+    }
+
+    /**
+     * Makes the splice to {@code list}, which the splice must fit.
+     */
+    void applyTo(List<Person> list) {
+        List<Person> replaced = list.subList(at, at + removedCount);
+        replaced.clear();
+        replaced.addAll(persons);
+    }
+}
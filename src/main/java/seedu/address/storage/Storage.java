@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,23 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns a save of {@code addressBook} to its file, as {@link #takeSave} does, or {@code Optional.empty()} if the
+     * address book is unchanged since it was last saved there, in which case it need not be written again.
+     */
+    Optional<PendingSave> takeSaveIfChanged(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Waits until every address book saved so far has been written to the storage.
+     *
+     * @throws IOException if the address books saved could not all be written.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets {@code handler} to be notified of the failures to write the address books saved, which are not thrown by
+     * {@link #saveAddressBook} as they are written after it returns.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
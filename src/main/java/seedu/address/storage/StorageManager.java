@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,12 +15,19 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * The version of the address book last saved to its file is kept, so that saving it again before it is changed, e.g.
+ * after a command that only lists or finds persons, does not write it again. This is also checked for the saves taken
+ * by {@link #takeSaveIfChanged}, which other {@code Storage}s write later.
  */
 public class StorageManager implements Storage {
 
+    /** The saved version before any address book is saved, which no address book has. */
+    static final long NO_SAVED_VERSION = -1;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private long savedAddressBookVersion = NO_SAVED_VERSION;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -64,15 +73,71 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public List<String> getSkippedPersonMessages() {
+        return addressBookStorage.getSkippedPersonMessages();
+    }
+
+    /**
+     * Saves {@code addressBook} to its file, unless the version last saved there is the current version of it.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        Optional<PendingSave> save = takeSaveIfChanged(addressBook);
+        if (save.isEmpty()) {
+            return;
+        }
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        try {
+            save.get().write();
+        } catch (IOException e) {
+            // the file may no longer hold the version last saved
+            savedAddressBookVersion = NO_SAVED_VERSION;
+            throw e;
+        }
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            // the file may no longer hold the version last saved, even if this save fails
+            savedAddressBookVersion = NO_SAVED_VERSION;
+        }
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave takeSave(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.takeSave(addressBook);
+    }
+
+    /**
+     * Takes a save of {@code addressBook} to its file, unless the version last saved there is the current version of
+     * it. The version of the address book is kept as saved once the save is taken, as the save must be written.
+     */
+    @Override
+    public Optional<PendingSave> takeSaveIfChanged(ReadOnlyAddressBook addressBook) {
+        long version = addressBook.getVersion();
+        if (version == savedAddressBookVersion) {
+            logger.fine("Address book unchanged since it was last saved, not writing it again");
+            return Optional.empty();
+        }
+        PendingSave save = addressBookStorage.takeSave(addressBook);
+        savedAddressBookVersion = version;
+        return Optional.of(save);
+    }
+
+    /**
+     * Does nothing, as every address book saved is written before {@link #saveAddressBook} returns.
+     */
+    @Override
+    public void flushAddressBook() {}
+
+    /**
+     * Does nothing, as the failure to write an address book saved is thrown by {@link #saveAddressBook}.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {}
+
 }
@@ -0,0 +1,290 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that writes the address books saved to another {@code Storage} on a background thread, so that
+ * saving an address book only takes a save of it, e.g. a snapshot, without waiting for it to be written.
+ *
+ * The saves are written by a single writer thread. A save is written at most {@code maxStaleness} milliseconds after
+ * it is taken, together with all the saves taken after it in the meantime, so a burst of saves is written at once.
+ * A save that fails to be written is written again with the next saves, after a delay that doubles with each failure
+ * in a row, from {@code maxStaleness} or {@value #MIN_RETRY_DELAY} milliseconds, whichever is longer, up to
+ * {@value #MAX_RETRY_DELAY} milliseconds. Only the first of the failures in a row is reported to the save failure
+ * handler.
+ * {@link #flushAddressBook()} writes the saves taken so far right away, and waits for them to be written.
+ *
+ * An address book is not saved again until it is changed, as told by the other {@code Storage}, so commands that do
+ * not change it do not wake the writer thread at all.
+ *
+ * The user prefs are saved, and the address book read, by the other {@code Storage} directly.
+ */
+public class WriteBehindStorage implements Storage {
+
+    /** The shortest delay, in milliseconds, before a save that failed to be written is written again. */
+    static final long MIN_RETRY_DELAY = 100;
+    /** The longest delay, in milliseconds, before a save that failed to be written is written again. */
+    static final long MAX_RETRY_DELAY = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final long maxStalenessNanos;
+    private final Object lock = new Object();
+
+    // the fields below are guarded by the lock
+    private PendingSave pendingSave;
+    private long pendingDeadline;
+    private boolean isWriting;
+    private boolean isFlushRequested;
+    private long startedWriteCount;
+    private long failedWriteNumber;
+    private IOException lastFailure;
+    private Thread writer;
+
+    private volatile Consumer<IOException> saveFailureHandler = failure -> {};
+
+    /** The number of writes in a row that failed, only used by the writer thread. */
+    private int consecutiveFailureCount;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes the address books saved to {@code storage} at most
+     * {@code maxStaleness} milliseconds after they are saved.
+     */
+    public WriteBehindStorage(Storage storage, long maxStaleness) {
+        requireNonNull(storage);
+        if (maxStaleness < 0) {
+            throw new IllegalArgumentException("Maximum staleness must not be negative.");
+        }
+        this.storage = storage;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStaleness);
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public List<String> getSkippedPersonMessages() {
+        return storage.getSkippedPersonMessages();
+    }
+
+    /**
+     * Takes a save of {@code addressBook} from the other {@code Storage} and hands it to the writer thread, which
+     * writes it later, unless the address book is unchanged since it was last saved.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        Optional<PendingSave> changedSave = storage.takeSaveIfChanged(addressBook);
+        if (changedSave.isEmpty()) {
+            return;
+        }
+        PendingSave save = changedSave.get();
+        synchronized (lock) {
+            if (pendingSave == null) {
+                pendingSave = save;
+                pendingDeadline = System.nanoTime() + maxStalenessNanos;
+            } else {
+                pendingSave = pendingSave.followedBy(save);
+            }
+            if (writer == null) {
+                writer = new Thread(this::writeSaves, "address-book-writer");
+                writer.setDaemon(true);
+                writer.start();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} right away, after the saves taken so far.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        flushAddressBook();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Returns a save of {@code addressBook} taken from the other {@code Storage}, which must not be written while
+     * the saves handed to the writer thread are being written.
+     */
+    @Override
+    public PendingSave takeSave(ReadOnlyAddressBook addressBook) {
+        return storage.takeSave(addressBook);
+    }
+
+    /**
+     * Returns a save of {@code addressBook} taken from the other {@code Storage} if it is changed, which must not be
+     * written while the saves handed to the writer thread are being written.
+     */
+    @Override
+    public Optional<PendingSave> takeSaveIfChanged(ReadOnlyAddressBook addressBook) {
+        return storage.takeSaveIfChanged(addressBook);
+    }
+
+    /**
+     * Writes the saves taken so far right away, and waits until they are written.
+     *
+     * @throws IOException if the saves could not be written, in which case they are written again later.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        synchronized (lock) {
+            // the saves taken so far are written by the write in progress, if any, or the next one
+            long firstFlushingWrite = isWriting ? startedWriteCount : startedWriteCount + 1;
+            isFlushRequested = true;
+            lock.notifyAll();
+            try {
+                while (pendingSave != null || isWriting) {
+                    if (lastFailure != null && failedWriteNumber >= firstFlushingWrite) {
+                        throw lastFailure;
+                    }
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the address book to be written.");
+            } finally {
+                isFlushRequested = false;
+            }
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Waits until the saves handed over are due to be written or a flush is requested, and takes them to be written.
+     */
+    private PendingSave takeDueSave() throws InterruptedException {
+        synchronized (lock) {
+            while (true) {
+                if (pendingSave == null) {
+                    lock.wait();
+                    continue;
+                }
+                long remainingNanos = pendingDeadline - System.nanoTime();
+                if (isFlushRequested || remainingNanos <= 0) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(lock, remainingNanos);
+            }
+            PendingSave save = pendingSave;
+            pendingSave = null;
+            isWriting = true;
+            startedWriteCount++;
+            return save;
+        }
+    }
+
+    /**
+     * Writes the saves handed over, each once it is due or a flush is requested, for as long as the application runs.
+     */
+    private void writeSaves() {
+        while (true) {
+            PendingSave save;
+            try {
+                save = takeDueSave();
+            } catch (InterruptedException e) {
+                logger.warning("Address book writer interrupted, the saves taken after this are not written.");
+                return;
+            }
+
+            IOException failure = null;
+            try {
+                save.write();
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new IOException(e);
+            }
+
+            if (failure == null) {
+                consecutiveFailureCount = 0;
+            } else {
+                consecutiveFailureCount++;
+                logger.warning("Error writing the address book (failure " + consecutiveFailureCount + " in a row): "
+                        + failure);
+                // the retries of a failed write are not reported again, so they do not keep replacing the feedback
+                if (consecutiveFailureCount == 1) {
+                    saveFailureHandler.accept(failure);
+                }
+            }
+
+            synchronized (lock) {
+                isWriting = false;
+                lastFailure = failure;
+                if (failure != null) {
+                    // the failed save is written again with the saves taken after it, once the retry delay is over
+                    pendingSave = pendingSave == null ? save : save.followedBy(pendingSave);
+                    pendingDeadline = System.nanoTime() + retryDelayNanos();
+                    failedWriteNumber = startedWriteCount;
+                    isFlushRequested = false;
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the delay before writing again after {@code consecutiveFailureCount} writes in a row failed.
+     */
+    private long retryDelayNanos() {
+        long delay = Math.max(maxStalenessNanos, TimeUnit.MILLISECONDS.toNanos(MIN_RETRY_DELAY));
+        long maxDelay = Math.max(delay, TimeUnit.MILLISECONDS.toNanos(MAX_RETRY_DELAY));
+        for (int i = 1; i < consecutiveFailureCount && delay < maxDelay; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, maxDelay);
+    }
+}
@@ -17,18 +17,23 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandPreviewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandPreviewer = commandPreviewer;
+        // calls #setStyleToDefault() and previews the command whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            commandPreviewer.preview(newText);
+        });
     }
 
     /**
@@ -86,4 +91,15 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that previews the effect of a command while it is being typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command, without executing it.
+         */
+        void preview(String commandText);
+    }
+
 }
@@ -0,0 +1,158 @@
+package seedu.address.ui;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.animation.AnimationTimer;
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.IncrementalPersonSearch;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Previews the persons found by a {@code find} command in the person list panel while the command is being typed,
+ * without blocking the JavaFX application thread.
+ *
+ * Each version of the command is evaluated on a single background thread, by an {@code IncrementalPersonSearch} of
+ * a snapshot of the persons that is only taken again after the address book changes, so the persons found for the
+ * previous version are refined when the keywords are only extended. Every change to the command supersedes the
+ * evaluation in progress, which stops at its next check. The latest result is handed to the JavaFX application
+ * thread and shown on the next frame, so the person list panel is updated at most once per frame.
+ * Persons matching the keywords only approximately are left out of the preview, and are found when the command is
+ * executed.
+ */
+public class FindPreview {
+
+    private static final Logger logger = LogsCenter.getLogger(FindPreview.class);
+
+    private final Logic logic;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "find-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Incremented for every change to the command, so that the evaluations of earlier versions can tell. */
+    private final AtomicLong latestVersion = new AtomicLong();
+    private final AtomicReference<Result> pendingResult = new AtomicReference<>();
+    private final AnimationTimer frameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            showPendingResult();
+        }
+    };
+
+    private IncrementalPersonSearch search;
+    private Future<?> evaluation;
+
+    /**
+     * Creates a {@code FindPreview} of the persons of the address book of {@code logic}.
+     */
+    public FindPreview(Logic logic) {
+        this.logic = logic;
+        logic.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> search = null);
+    }
+
+    /**
+     * Previews the persons found by {@code commandText} if it is a find command, or stops previewing if it is
+     * another command. Must be called on the JavaFX application thread, whenever the command is changed.
+     */
+    public void preview(String commandText) {
+        long version = latestVersion.incrementAndGet();
+        if (evaluation != null) {
+            // an evaluation that has not started yet is dropped, and one in progress stops as it is superseded
+            evaluation.cancel(false);
+        }
+
+        Optional<PersonContainsKeywordsPredicate> predicate = logic.parseFindCommand(commandText);
+        if (predicate.isEmpty()) {
+            // a find command with an unclosed quote is still being typed, so it keeps the preview of its last complete
+            // version, while any other command that does not parse as a find command, e.g. after its keywords are
+            // deleted, stops the preview
+            if (!isFindCommand(commandText) || !hasUnclosedQuote(commandText)) {
+                frameTimer.stop();
+                pendingResult.set(null);
+                logic.clearFilteredPersonListPreview();
+            }
+            return;
+        }
+
+        if (search == null) {
+            search = new IncrementalPersonSearch(logic.getAddressBook().getPersonList());
+        }
+        IncrementalPersonSearch currentSearch = search;
+        evaluation = executor.submit(() -> evaluate(currentSearch, predicate.get(), version));
+        frameTimer.start();
+    }
+
+    /**
+     * Finds the persons matching {@code predicate} with {@code search} on the background thread, and hands them to
+     * the JavaFX application thread unless {@code version} of the command is superseded first.
+     */
+    private void evaluate(IncrementalPersonSearch search, PersonContainsKeywordsPredicate predicate, long version) {
+        try {
+            Optional<List<Person>> matches = search.search(predicate, () -> latestVersion.get() != version);
+            if (matches.isEmpty()) {
+                return;
+            }
+            Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>(matches.get().size()));
+            matchSet.addAll(matches.get());
+            pendingResult.set(new Result(version, search, matchSet));
+        } catch (RuntimeException e) {
+            logger.warning("Could not preview the find command: " + e);
+            pendingResult.set(new Result(version, search, null));
+        }
+    }
+
+    /**
+     * Shows the result handed over since the last frame, if it is for the latest version of the command, and was
+     * found in the persons as they are now. A result found before the address book changed is dropped, as the
+     * persons it found may no longer be in the address book, or no longer match.
+     */
+    private void showPendingResult() {
+        Result result = pendingResult.getAndSet(null);
+        if (result == null || result.version != latestVersion.get()) {
+            return;
+        }
+        if (result.matches != null && result.search == search) {
+            logic.previewFilteredPersonList(result.matches::contains);
+        }
+        frameTimer.stop();
+    }
+
+    private static boolean isFindCommand(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 2);
+        return words[0].equals(FindCommand.COMMAND_WORD);
+    }
+
+    private static boolean hasUnclosedQuote(String commandText) {
+        return commandText.chars().filter(character -> character == '"').count() % 2 != 0;
+    }
+
+    /**
+     * The persons found for a version of the command by a search, or null if they could not be found.
+     */
+    private static class Result {
+        private final long version;
+        private final IncrementalPersonSearch search;
+        private final Set<Person> matches;
+
+        private Result(long version, IncrementalPersonSearch search, Set<Person> matches) {
+            this.version = version;
+            this.search = search;
+            this.matches = matches;
+        }
+    }
+}
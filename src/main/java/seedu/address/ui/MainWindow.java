@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -134,11 +135,13 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        FindPreview findPreview = new FindPreview(logic);
+        CommandBox commandBox = new CommandBox(this::executeCommand, findPreview::preview);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         commandHistoryMenu = new CommandHistoryMenu(logic.getCommandHistoryList(), commandBox::setCommandTextField);
@@ -148,6 +151,13 @@ public class MainWindow extends UiPart<Stage> {
         personDetailPlaceholder.getChildren().add(personDetailPanel.getRoot());
     }
 
+    /**
+     * Shows {@code feedback} in the result display.
+     */
+    void showFeedbackToUser(String feedback) {
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -23,13 +24,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private List<String> startupMessages;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which shows {@code startupMessages}, one per line, in
+     * the result display once it starts.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, List<String> startupMessages) {
         this.logic = logic;
+        this.startupMessages = startupMessages;
     }
 
     @Override
@@ -43,6 +47,9 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            if (!startupMessages.isEmpty()) {
+                mainWindow.showFeedbackToUser(String.join("\n", startupMessages));
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
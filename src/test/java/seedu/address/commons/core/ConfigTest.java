@@ -3,16 +3,20 @@ package seedu.address.commons.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.JsonUtil;
+
 public class ConfigTest {
 
     @Test
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", maxSaveStaleness=" + config.getMaxSaveStaleness() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -23,5 +27,20 @@ public class ConfigTest {
         assertTrue(defaultConfig.equals(defaultConfig));
     }
 
+    @Test
+    public void setMaxSaveStaleness_negativeStaleness_throwsIllegalArgumentException() {
+        Config config = new Config();
+        assertThrows(IllegalArgumentException.class, () -> config.setMaxSaveStaleness(-1));
+        assertEquals(Config.DEFAULT_MAX_SAVE_STALENESS, config.getMaxSaveStaleness());
+
+        config.setMaxSaveStaleness(0);
+        assertEquals(0, config.getMaxSaveStaleness());
+    }
+
+    @Test
+    public void getMaxSaveStaleness_negativeStalenessInConfigFile_defaultStaleness() throws Exception {
+        Config config = JsonUtil.fromJsonString("{\"maxSaveStaleness\" : -5}", Config.class);
+        assertEquals(Config.DEFAULT_MAX_SAVE_STALENESS, config.getMaxSaveStaleness());
+    }
 
 }
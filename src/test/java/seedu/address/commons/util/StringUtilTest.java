@@ -1,11 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -161,6 +163,121 @@ public class StringUtilTest {
         assertEquals(5, StringUtil.levenshteinDistance("abcde", "vwxyz"));
     }
 
+    @Test
+    public void levenshteinDistance_emptyString_returnsLengthOfOther() {
+        assertEquals(0, StringUtil.levenshteinDistance("", ""));
+        assertEquals(3, StringUtil.levenshteinDistance("", "abc"));
+        assertEquals(3, StringUtil.levenshteinDistance("abc", ""));
+    }
+
+    @Test
+    public void levenshteinDistance_maxDistance_cappedAboveMaxDistance() {
+        assertEquals(1, StringUtil.levenshteinDistance("kitten", "kitton", 2));
+        assertEquals(3, StringUtil.levenshteinDistance("kitten", "sitting", 3));
+        assertEquals(3, StringUtil.levenshteinDistance("abcde", "vwxyz", 2));
+        assertEquals(1, StringUtil.levenshteinDistance("abc", "abcdefgh", 0));
+        assertEquals(0, StringUtil.levenshteinDistance("abc", "abc", 0));
+        assertEquals(5, StringUtil.levenshteinDistance("abcde", "vwxyz", Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void levenshteinDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.levenshteinDistance("a", "b", -1));
+    }
+
+    @Test
+    public void levenshteinDistance_randomStrings_sameAsFullMatrix() {
+        Random random = new Random(0);
+        // lengths on both sides of 64 characters, where the computation switches to the banded rows
+        int[] lengths = {0, 1, 5, 20, 63, 64, 65, 100};
+        for (int i = 0; i < 500; i++) {
+            String s1 = randomString(random, lengths[random.nextInt(lengths.length)] + random.nextInt(3));
+            String s2 = random.nextBoolean()
+                    ? randomString(random, lengths[random.nextInt(lengths.length)])
+                    : mutate(random, s1);
+            int expected = fullMatrixDistance(s1, s2);
+            assertEquals(expected, StringUtil.levenshteinDistance(s1, s2));
+            for (int maxDistance : new int[] {0, 1, 2, 10, 70}) {
+                assertEquals(Math.min(expected, maxDistance + 1), StringUtil.levenshteinDistance(s1, s2, maxDistance),
+                        s1 + " " + s2 + " " + maxDistance);
+            }
+        }
+    }
+
+    /**
+     * Returns a random string of {@code length} characters from a small alphabet with a non-ASCII character,
+     * so that the strings have many characters in common.
+     */
+    private static String randomString(Random random, int length) {
+        String alphabet = "abcé\u4e2d";
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            string.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return string.toString();
+    }
+
+    /**
+     * Returns {@code string} with up to three random characters inserted, deleted or substituted.
+     */
+    private static String mutate(Random random, String string) {
+        StringBuilder mutated = new StringBuilder(string);
+        for (int edits = random.nextInt(4); edits > 0; edits--) {
+            int position = random.nextInt(mutated.length() + 1);
+            if (position < mutated.length() && random.nextBoolean()) {
+                mutated.deleteCharAt(position);
+            } else {
+                mutated.insert(position, randomString(random, 1));
+            }
+        }
+        return mutated.toString();
+    }
+
+    private static int fullMatrixDistance(String s1, String s2) {
+        int[][] distances = new int[s1.length() + 1][s2.length() + 1];
+        for (int i = 0; i <= s1.length(); i++) {
+            for (int j = 0; j <= s2.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int cost = s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1;
+                    distances[i][j] = Math.min(Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
+                            distances[i - 1][j - 1] + cost);
+                }
+            }
+        }
+        return distances[s1.length()][s2.length()];
+    }
+
+    @Test
+    public void toSearchForm_mixedCaseAndDecomposedAccents_composedLowerCase() {
+        assertEquals("ren\u00e9e", StringUtil.toSearchForm("RENE\u0301E"));
+        assertEquals("istanbul", StringUtil.toSearchForm("ISTANBUL"));
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchForm(null));
+    }
+
+    @Test
+    public void toWords_whitespaceSeparatedText_words() {
+        assertArrayEquals(new String[] {"a", "b", "c"}, StringUtil.toWords("a  b\tc"));
+        assertArrayEquals(new String[] {""}, StringUtil.toWords(""));
+
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int j = random.nextInt(8); j > 0; j--) {
+                text.append(" \t\nab".charAt(random.nextInt(5)));
+            }
+            assertArrayEquals(text.toString().split("\\s+"), StringUtil.toWords(text.toString()));
+        }
+    }
+
+    @Test
+    public void isSimilar_wordsInSearchForm_matchesAnyWord() {
+        assertTrue(StringUtil.isSimilar(new String[] {"apple", "orange"}, "orang", 2));
+        assertFalse(StringUtil.isSimilar(new String[] {"apple", "orange"}, "grape", 2));
+        assertFalse(StringUtil.isSimilar(new String[0], "grape", 2));
+    }
+
     @Test
     public void isSimilar_exactMatch_returnsTrue() {
         assertTrue(StringUtil.isSimilar("hello", "hello", 2));
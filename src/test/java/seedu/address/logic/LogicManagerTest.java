@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -13,10 +15,14 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +30,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -31,9 +38,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -87,6 +96,50 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_exitCommand_flushesSavedAddressBook() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storageManager = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, new WriteBehindStorage(storageManager, TimeUnit.HOURS.toMillis(1)));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(model.getAddressBook(), storageManager.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_commandNotChangingAddressBook_addressBookNotSavedAgain() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        Files.delete(addressBookPath);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void setSaveFailureHandler_writeBehindStorageThrowsIoException_handlerGivenErrorMessage() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("a.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, new WriteBehindStorage(storageManager, 0));
+        CompletableFuture<String> message = new CompletableFuture<>();
+        logic.setSaveFailureHandler(message::complete);
+
+        // the command succeeds, as the address book is written after it returns
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                message.get(10, TimeUnit.SECONDS));
+    }
+
     @Test
     public void execute_commandInputStoredInHistory_success() {
         String[] dummyCommands = {"help", "list", "12hdh3jk efjkkfhs", "add n/John Doe p/98765432 e/123@123 a/123123"};
@@ -117,6 +170,18 @@ public class LogicManagerTest {
         assertEquals(Collections.emptyList(), logic.getCommandHistoryList());
     }
 
+    @Test
+    public void parseFindCommand_findCommand_returnsPredicate() {
+        assertEquals(Optional.of(new PersonContainsKeywordsPredicate(Arrays.asList("alice", "bob"), true, false,
+                false, false, false)), logic.parseFindCommand("find alice bob"));
+        assertTrue(logic.parseFindCommand("find n/\"alice").isEmpty());
+        assertTrue(logic.parseFindCommand("list").isEmpty());
+        assertTrue(logic.parseFindCommand("").isEmpty());
+
+        // the command is only parsed, not executed
+        assertEquals(Collections.emptyList(), logic.getCommandHistoryList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
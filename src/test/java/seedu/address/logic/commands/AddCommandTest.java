@@ -163,11 +163,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<Person> getDisplayedPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void previewFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearFilteredPersonListPreview() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addPastCommandInput(String pastCommandInput) {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +228,21 @@ public class AddCommandTest {
             return false;
         }
 
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class BatchCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_noCommands_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new BatchCommand(null));
+        assertThrows(IllegalArgumentException.class, () -> new BatchCommand(List.of()));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_commitsOnce() {
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        Person secondPerson = model.getFilteredPersonList().get(1);
+        BatchCommand batchCommand = new BatchCommand(List.of(
+                new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(List.of(firstPerson))) + "\n"
+                + String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(List.of(secondPerson)));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(firstPerson);
+        expectedModel.deletePerson(secondPerson);
+        expectedModel.commit();
+
+        assertCommandSuccess(batchCommand, model, expectedMessage, expectedModel);
+
+        // the whole batch is undone at once
+        model.undo();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.hasUndo());
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_displayedListChangesOnce() throws Exception {
+        int[] changeCount = {0};
+        model.getDisplayedPersonList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+
+        new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON), new PinCommand(INDEX_SECOND_PERSON),
+                new DeleteCommand(INDEX_SECOND_PERSON))).execute(model);
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(model.getFilteredPersonList(), model.getDisplayedPersonList());
+    }
+
+    @Test
+    public void execute_commandFails_rollsBackAllCommands() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size());
+        BatchCommand batchCommand = new BatchCommand(List.of(
+                new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(outOfBoundIndex)));
+        int[] changeCount = {0};
+        model.getDisplayedPersonList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertFalse(model.hasUndo());
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void execute_helpAndExit_combinesResults() throws Exception {
+        CommandResult result = new BatchCommand(List.of(new HelpCommand(), new ExitCommand())).execute(model);
+        assertTrue(result.isShowHelp());
+        assertTrue(result.isExit());
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)))));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(batchCommand.equals(1));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(List.of(new DeleteCommand(INDEX_SECOND_PERSON)))));
+    }
+}
@@ -160,8 +160,9 @@ public class DeleteCommandTest {
 
         String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
                 Messages.format(List.of(firstPersonToDelete, secondPersonToDelete, thirdPersonToDelete)));
-        Model expectedModel = prepareTypicalModelWithoutPersons(firstPersonToDelete,
-                secondPersonToDelete, thirdPersonToDelete);
+        // persons are deleted from the highest index first, as the command does
+        Model expectedModel = prepareTypicalModelWithoutPersons(thirdPersonToDelete,
+                secondPersonToDelete, firstPersonToDelete);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
@@ -7,6 +7,8 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -181,4 +183,29 @@ public class FindCommandTest {
         expectedModel.commit();
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void execute_rankedKeyword_mostRelevantFirst() {
+        // Elle Meyer matches exactly, and Benson Meier and Daniel Meier only approximately
+        String expectedMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("Meyer"), true,
+                false, false, false, false, 2);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.commit();
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rankLimitFarLargerThanAddressBook_listsAllMatches() {
+        String expectedMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("Meyer"), true,
+                false, false, false, false, 2000000000);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.commit();
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
 }
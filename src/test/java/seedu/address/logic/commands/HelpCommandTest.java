@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -30,9 +31,12 @@ public class HelpCommandTest {
                 + ": Finds all persons whose specified fields contain any of "
                 + "the given keywords (case-insensitive) and displays them as a list with index numbers.\n"
                 + "Parameters: [n/\"NAME\"] [p/\"PHONE\"] [e/\"EMAIL\"]"
-                + " [a/\"ADDRESS\"] [t/\"TAG\"] \"KEYWORD\" [\"MORE_KEYWORDS\"]...\n"
+                + " [a/\"ADDRESS\"] [t/\"TAG\"] [nt/\"NOTE\"] \"KEYWORD\" [\"MORE_KEYWORDS\"]... [top/COUNT]\n"
                 + "Use double quotation marks (\") around multi-word inputs or "
                 + "single keywords to ensure correct parsing.\n"
+                + "Notes are searched for the keywords as whole words, e.g. nt/\"follow up\" finds "
+                + "\"Follow-up call\".\n"
+                + "Use top/ to only list the given number of most relevant persons, from the most relevant.\n"
                 + "Example: " + "find" + " n/\"Alice\" \"Bob\" p/\"98765432\" a/\"Bedok Central\" t/\"close friend\"";
 
         CommandResult result = helpCommand.execute(model);
@@ -55,11 +59,9 @@ public class HelpCommandTest {
 
         HelpCommand helpCommand = new HelpCommand();
 
-        // should only undo helpCommand
+        // helpCommand does not change the model, so there is nothing to undo
         assertDoesNotThrow(() -> helpCommand.execute(blankModel));
-        blankModel.undo();
-
-        // Nothing to undo
+        assertFalse(blankModel.hasUndo());
         assertThrows(IndexOutOfBoundsException.class, () -> blankModel.undo());
     }
 }
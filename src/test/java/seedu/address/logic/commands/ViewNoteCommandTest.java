@@ -99,15 +99,11 @@ public class ViewNoteCommandTest {
         blankModel.commit();
 
         ViewNoteCommand viewNoteCommand = new ViewNoteCommand(INDEX_FIRST_PERSON);
-        // should only undo viewNoteCommand
+        // viewNoteCommand does not change the model, so undo should only undo the add command
         assertDoesNotThrow(() -> viewNoteCommand.execute(blankModel));
-        blankModel.undo();
-        // make sure the added person is still there
         assertDoesNotThrow(() -> viewNoteCommand.execute(blankModel));
-        blankModel.undo();
-
-        // remove the add command
         assertDoesNotThrow(() -> blankModel.undo());
+        assertFalse(blankModel.hasUndo());
 
         // No contact at index 1 so no note can be viewed, error should be thrown
         assertThrows(CommandException.class, () -> viewNoteCommand.execute(blankModel));
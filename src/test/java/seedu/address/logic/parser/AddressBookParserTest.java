@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -138,6 +139,15 @@ public class AddressBookParserTest {
         assertEquals(new ViewNoteCommand(INDEX_FIRST_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " "
+                + DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + BatchCommand.COMMAND_SEPARATOR
+                + PinCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new PinCommand(INDEX_FIRST_PERSON))), command);
+    }
+
     @Test
     public void parseCommand_undo() throws Exception {
         assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
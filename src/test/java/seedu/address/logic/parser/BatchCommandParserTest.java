@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.BatchCommandParser.MESSAGE_INVALID_BATCHED_COMMAND;
+import static seedu.address.logic.parser.BatchCommandParser.MESSAGE_UNSUPPORTED_BATCHED_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.PinCommand;
+
+public class BatchCommandParserTest {
+
+    private final BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_validArgs_returnsBatchCommand() {
+        BatchCommand expectedCommand = new BatchCommand(List.of(
+                new DeleteCommand(INDEX_FIRST_PERSON), new PinCommand(INDEX_SECOND_PERSON)));
+        assertParseSuccess(parser, " delete 1; pin 2", expectedCommand);
+
+        // blank commands are ignored
+        assertParseSuccess(parser, " ; delete 1 ;;  pin 2 ; ", expectedCommand);
+    }
+
+    @Test
+    public void parse_noCommands_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " ;  ; ", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidCommand_throwsParseException() {
+        assertParseFailure(parser, " delete 1; unknown",
+                String.format(MESSAGE_INVALID_BATCHED_COMMAND, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_unsupportedCommand_throwsParseException() {
+        assertParseFailure(parser, " undo", String.format(MESSAGE_UNSUPPORTED_BATCHED_COMMAND, 1, "undo"));
+        assertParseFailure(parser, " delete 1; redo ", String.format(MESSAGE_UNSUPPORTED_BATCHED_COMMAND, 2, "redo"));
+        assertParseFailure(parser, " batch delete 1",
+                String.format(MESSAGE_UNSUPPORTED_BATCHED_COMMAND, 1, "batch delete 1"));
+    }
+}
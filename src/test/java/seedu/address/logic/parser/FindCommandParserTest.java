@@ -52,6 +52,34 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "find e/\"alice@example.com\"", expectedFindCommand);
     }
 
+    @Test
+    public void parse_searchByNote_returnsFindCommand() {
+        PersonContainsKeywordsPredicate expectedPredicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("follow up", "invoice"), false, false, false, false, false, true,
+                PersonContainsKeywordsPredicate.UNRANKED);
+        assertParseSuccess(parser, "find nt/\"follow up\" \"invoice\"", new FindCommand(expectedPredicate));
+    }
+
+    @Test
+    public void parse_rankLimit_returnsRankedFindCommand() {
+        PersonContainsKeywordsPredicate expectedPredicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("Alice"), true, false, false, false, false, 3);
+        assertParseSuccess(parser, "find n/\"Alice\" top/3", new FindCommand(expectedPredicate));
+        assertParseSuccess(parser, "Alice top/ 3 ", new FindCommand(expectedPredicate));
+
+        // a limit far larger than any address book
+        PersonContainsKeywordsPredicate hugeLimitPredicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("Alice"), true, false, false, false, false, 2000000000);
+        assertParseSuccess(parser, "find n/\"Alice\" top/2000000000", new FindCommand(hugeLimitPredicate));
+    }
+
+    @Test
+    public void parse_invalidRankLimit_throwsParseException() {
+        assertParseFailure(parser, "find n/\"Alice\" top/0", FindCommand.MESSAGE_INVALID_RANK_LIMIT);
+        assertParseFailure(parser, "find n/\"Alice\" top/-1", FindCommand.MESSAGE_INVALID_RANK_LIMIT);
+        assertParseFailure(parser, "find n/\"Alice\" top/many", FindCommand.MESSAGE_INVALID_RANK_LIMIT);
+    }
+
     @Test
     public void parse_multipleFields_returnsFindCommand() {
         List<String> keywords = Arrays.asList("Alice", "12345678");
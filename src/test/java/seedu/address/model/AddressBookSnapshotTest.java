@@ -0,0 +1,51 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void getPersonList_sameAsAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(addressBook.getPersonList(), addressBook.snapshot().getPersonList());
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = getTypicalAddressBook().snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void equals() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        // same values -> returns true
+        AddressBook otherAddressBook = new AddressBook();
+        otherAddressBook.addPerson(ALICE);
+        assertTrue(snapshot.equals(otherAddressBook.snapshot()));
+
+        // same object -> returns true
+        assertTrue(snapshot.equals(snapshot));
+
+        // null -> returns false
+        assertFalse(snapshot.equals(null));
+
+        // different types -> returns false
+        assertFalse(snapshot.equals(addressBook));
+
+        // different persons -> returns false
+        addressBook.addPerson(BENSON);
+        assertFalse(snapshot.equals(addressBook.snapshot()));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -45,6 +46,80 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesIdentityIndex() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.addPerson(CARL);
+        addressBook.resetData(new AddressBook(newData));
+        assertTrue(addressBook.hasPerson(ALICE));
+
+        // later changes to the source do not leak into the copy
+        newData.removePerson(ALICE);
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflectedInSnapshot() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, CARL);
+        addressBook.addPerson(ALICE);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+    }
+
+    @Test
+    public void getVersion_changes_versionIncreases() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        // a failed change leaves the version as it was
+        version = addressBook.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_addressBooksChangedSeparately_differentVersions() {
+        AddressBook otherAddressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        otherAddressBook.addPerson(ALICE);
+        assertNotEquals(addressBook.getVersion(), otherAddressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_snapshot_versionWhenTaken() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+
+        addressBook.addPerson(BENSON);
+        assertTrue(addressBook.getVersion() > snapshot.getVersion());
+    }
+
+    @Test
+    public void resetData_withSnapshot_restoresPersons() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(CARL);
+        addressBook.resetData(snapshot);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getPersonList());
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertFalse(addressBook.hasPerson(CARL));
+
+        // the restored address book can be edited as usual
+        addressBook.removePerson(BENSON);
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+    }
+
     private AddressBook getTypicalAddressBook() {
         AddressBook ab = new AddressBook();
         for (Person p : TypicalPersons.getTypicalPersons()) {
@@ -127,6 +202,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
     @Test
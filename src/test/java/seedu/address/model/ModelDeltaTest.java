@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+
+public class ModelDeltaTest {
+
+    private static final Predicate<Person> PREDICATE_SHOW_NO_PERSONS = p -> false;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ModelDelta(null,
+                PREDICATE_SHOW_ALL_PERSONS, PREDICATE_SHOW_ALL_PERSONS));
+        assertThrows(NullPointerException.class, () -> new ModelDelta(List.of(), null, PREDICATE_SHOW_ALL_PERSONS));
+        assertThrows(NullPointerException.class, () -> new ModelDelta(List.of(), PREDICATE_SHOW_ALL_PERSONS, null));
+    }
+
+    @Test
+    public void isEmpty() {
+        // no changes -> returns true
+        assertTrue(new ModelDelta(List.of(), PREDICATE_SHOW_ALL_PERSONS, PREDICATE_SHOW_ALL_PERSONS).isEmpty());
+
+        // predicate changed -> returns false
+        assertFalse(new ModelDelta(List.of(), PREDICATE_SHOW_ALL_PERSONS, PREDICATE_SHOW_NO_PERSONS).isEmpty());
+
+        // person changed -> returns false
+        assertFalse(new ModelDelta(recordAdd(), PREDICATE_SHOW_ALL_PERSONS, PREDICATE_SHOW_ALL_PERSONS).isEmpty());
+    }
+
+    @Test
+    public void estimateSize_moreChanges_largerSize() {
+        ModelDelta emptyDelta = new ModelDelta(List.of(), PREDICATE_SHOW_ALL_PERSONS, PREDICATE_SHOW_ALL_PERSONS);
+        ModelDelta addDelta = new ModelDelta(recordAdd(), PREDICATE_SHOW_ALL_PERSONS, PREDICATE_SHOW_ALL_PERSONS);
+        assertTrue(addDelta.estimateSize() > emptyDelta.estimateSize());
+    }
+
+    @Test
+    public void equals() {
+        ModelDelta modelDelta = new ModelDelta(recordAdd(), PREDICATE_SHOW_ALL_PERSONS, PREDICATE_SHOW_NO_PERSONS);
+
+        // same values -> returns true
+        assertTrue(modelDelta.equals(new ModelDelta(recordAdd(), PREDICATE_SHOW_ALL_PERSONS,
+                PREDICATE_SHOW_NO_PERSONS)));
+
+        // same object -> returns true
+        assertTrue(modelDelta.equals(modelDelta));
+
+        // null -> returns false
+        assertFalse(modelDelta.equals(null));
+
+        // different types -> returns false
+        assertFalse(modelDelta.equals(42));
+
+        // different changes -> returns false
+        assertFalse(modelDelta.equals(new ModelDelta(List.of(), PREDICATE_SHOW_ALL_PERSONS,
+                PREDICATE_SHOW_NO_PERSONS)));
+
+        // different predicates -> returns false
+        assertFalse(modelDelta.equals(new ModelDelta(recordAdd(), PREDICATE_SHOW_NO_PERSONS,
+                PREDICATE_SHOW_NO_PERSONS)));
+        assertFalse(modelDelta.equals(new ModelDelta(recordAdd(), PREDICATE_SHOW_ALL_PERSONS,
+                PREDICATE_SHOW_ALL_PERSONS)));
+    }
+
+    /**
+     * Returns the changes recorded by adding a person to an empty address book.
+     */
+    private static List<PersonListChange> recordAdd() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.startRecordingChanges();
+        addressBook.addPerson(ALICE);
+        return addressBook.takeRecordedChanges();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -12,7 +13,9 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +23,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -124,9 +128,9 @@ public class ModelManagerTest {
 
     @Test
     public void undo_pinPerson_success() {
-        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
         modelManager = new ModelManager(addressBook, new UserPrefs());
-        modelManager.pinPerson(ALICE);
+        modelManager.pinPerson(BENSON);
         modelManager.commit();
         modelManager.undo();
     }
@@ -164,9 +168,9 @@ public class ModelManagerTest {
 
     @Test
     public void redo_pinPerson_success() {
-        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
         modelManager = new ModelManager(addressBook, new UserPrefs());
-        modelManager.pinPerson(ALICE);
+        modelManager.pinPerson(BENSON);
         modelManager.commit();
         modelManager.undo();
         modelManager.redo();
@@ -176,9 +180,133 @@ public class ModelManagerTest {
     public void updateFilteredPersonList_undo_successs() {
         AddressBook addressBook = new AddressBookBuilder().build();
         modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        modelManager.commit();
+        modelManager.undo();
+    }
+
+    @Test
+    public void undo_keywordSearch_reusesCachedMatches() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonList(new PersonContainsKeywordsPredicate(List.of("alice"),
+                true, false, false, false, false));
+        modelManager.commit();
+        modelManager.updateFilteredPersonList(new PersonContainsKeywordsPredicate(List.of("benson"),
+                true, false, false, false, false));
+        modelManager.commit();
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        modelManager.redo();
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        // neither search is evaluated again
+        AddressBook searchedAddressBook = (AddressBook) modelManager.getAddressBook();
+        assertEquals(2, searchedAddressBook.getSearchResultCacheStatistics().getMissCount());
+    }
+
+    @Test
+    public void commit_unchangedModel_nothingToUndo() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.commit();
+        assertFalse(modelManager.hasUndo());
+
+        // resetting the predicate to the committed one is not a change
         modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         modelManager.commit();
+        assertFalse(modelManager.hasUndo());
+
+        // pinning the first person does not reorder the list
+        modelManager.pinPerson(ALICE);
+        modelManager.commit();
+        assertFalse(modelManager.hasUndo());
+    }
+
+    @Test
+    public void undo_multipleChanges_restoresPersonsOrderAndPredicate() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(CARL).withPerson(ALICE).withPerson(BENSON)
+                .build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        List<Person> original = new ArrayList<>(modelManager.getAddressBook().getPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Edited").build();
+        modelManager.deletePerson(ALICE);
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.addPerson(DANIEL);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Carl")));
+        modelManager.commit();
+        modelManager.updateSortedPersonList("n/");
+        modelManager.commit();
+        List<Person> changed = new ArrayList<>(modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(editedBenson, CARL, DANIEL), changed);
+
+        modelManager.undo();
+        modelManager.undo();
+        assertEquals(original, modelManager.getAddressBook().getPersonList());
+        assertEquals(original, modelManager.getFilteredPersonList());
+
+        modelManager.redo();
+        modelManager.redo();
+        assertEquals(changed, modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+
+        // the persons can still be found after being restored
+        modelManager.deletePerson(editedBenson);
+        assertFalse(modelManager.hasPerson(editedBenson));
+    }
+
+    @Test
+    public void undo_clear_restoresPersons() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commit();
+        modelManager.undo();
+        assertEquals(addressBook, modelManager.getAddressBook());
+        modelManager.redo();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsChanges() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+        modelManager.addPerson(CARL);
+        modelManager.undo();
+        assertEquals(addressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void commit_memoryBudgetExceeded_forgetsOldestChanges() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMemoryBudget(0);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+
+        // the latest change is always kept
         modelManager.undo();
+        assertFalse(modelManager.hasUndo());
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void setUserPrefs_smallerMemoryBudget_forgetsOldestChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMemoryBudget(0);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.undo();
+        assertFalse(modelManager.hasUndo());
     }
 
     @Test
@@ -311,6 +439,61 @@ public class ModelManagerTest {
 
     }
 
+    @Test
+    public void beginTransaction_alreadyStarted_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
+    @Test
+    public void endTransaction_notStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+    }
+
+    @Test
+    public void commitTransaction_multipleCommits_committedOnce() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        assertFalse(modelManager.hasUndo());
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+        modelManager.commitTransaction();
+
+        modelManager.undo();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.hasUndo());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_revertsChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        modelManager.rollbackTransaction();
+
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), modelManager.getAddressBook());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE), modelManager.getDisplayedPersonList());
+        assertFalse(modelManager.hasRedo());
+        modelManager.undo();
+        assertFalse(modelManager.hasUndo());
+    }
+
+    @Test
+    public void getDisplayedPersonList_duringTransaction_updatedWhenCommitted() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getDisplayedPersonList().isEmpty());
+        modelManager.commitTransaction();
+        assertEquals(Arrays.asList(ALICE), modelManager.getDisplayedPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -349,6 +532,53 @@ public class ModelManagerTest {
         assertEquals(BENSON, filteredList.get(1));
     }
 
+    @Test
+    public void updateSortedFilteredPersonList_manySorts_sameListUpdatedInPlace() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(BENSON).withPerson(ALICE).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        ObservableList<Person> filteredList = modelManager.getFilteredPersonList();
+        for (int i = 0; i < 1000; i++) {
+            modelManager.updateSortedPersonList(i % 2 == 0 ? "n/" : "p/");
+            modelManager.updateSortedFilteredPersonList(i % 2 == 0 ? "n/" : "p/");
+        }
+        assertSame(filteredList, modelManager.getFilteredPersonList());
+
+        assertEquals(Arrays.asList(ALICE, BENSON), filteredList);
+
+        // the filtered list keeps the order of the address book, in which added persons are appended
+        modelManager.addPerson(CARL);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), filteredList);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getDisplayedPersonList());
+    }
+
+    @Test
+    public void previewFilteredPersonList_thenClear_restoresCurrentPredicate() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.previewFilteredPersonList(person -> person.equals(BENSON));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // the preview is not a change to commit
+        modelManager.commit();
+        assertFalse(modelManager.hasUndo());
+
+        modelManager.clearFilteredPersonListPreview();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void previewFilteredPersonList_thenUpdate_replacesPreview() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.previewFilteredPersonList(person -> person.equals(BENSON));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        // there is no longer a preview to clear
+        modelManager.clearFilteredPersonListPreview();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -380,21 +610,22 @@ public class ModelManagerTest {
         // different state pointer -> returns false
         ModelManager modelManagerCopy3 = new ModelManager(addressBook, userPrefs);
         ModelManager modelManagerCopy4 = new ModelManager(addressBook, userPrefs);
+        modelManagerCopy3.addPerson(DANIEL);
         modelManagerCopy3.commit();
         modelManagerCopy3.undo();
-        modelManagerCopy4.commit();
         assertFalse(modelManagerCopy4.equals(modelManagerCopy3));
 
         // different state history -> returns false
         ModelManager modelManagerCopy5 = new ModelManager(addressBook, userPrefs);
         ModelManager modelManagerCopy6 = new ModelManager(addressBook, userPrefs);
+        modelManagerCopy6.pinPerson(BENSON);
         modelManagerCopy6.commit();
+        modelManagerCopy5.pinPerson(BENSON);
         assertFalse(modelManagerCopy5.equals(modelManagerCopy6));
-        modelManagerCopy6.addPerson(DANIEL);
-        modelManagerCopy6.commit();
-        modelManagerCopy5.commit();
+
+        // same changes committed -> returns true
         modelManagerCopy5.commit();
-        assertFalse(modelManagerCopy5.equals(modelManagerCopy6));
+        assertTrue(modelManagerCopy5.equals(modelManagerCopy6));
 
         // different filteredList -> returns false
         String[] keywords = ALICE.getName().fullName.split("\\s+");
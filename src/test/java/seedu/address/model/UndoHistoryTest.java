@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+public class UndoHistoryTest {
+
+    private static final ModelDelta FIRST_DELTA = predicateDelta("first");
+    private static final ModelDelta SECOND_DELTA = predicateDelta("second");
+    private static final ModelDelta THIRD_DELTA = predicateDelta("third");
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(-1));
+    }
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new UndoHistory(Long.MAX_VALUE).record(null));
+    }
+
+    @Test
+    public void undoRedo_recordedDeltas_returnsDeltasInOrder() {
+        UndoHistory undoHistory = new UndoHistory(Long.MAX_VALUE);
+        assertFalse(undoHistory.hasUndo());
+        assertThrows(IndexOutOfBoundsException.class, undoHistory::undo);
+
+        undoHistory.record(FIRST_DELTA);
+        undoHistory.record(SECOND_DELTA);
+        assertEquals(SECOND_DELTA, undoHistory.undo());
+        assertEquals(FIRST_DELTA, undoHistory.undo());
+        assertFalse(undoHistory.hasUndo());
+
+        assertEquals(FIRST_DELTA, undoHistory.redo());
+        assertEquals(SECOND_DELTA, undoHistory.redo());
+        assertFalse(undoHistory.hasRedo());
+        assertThrows(IndexOutOfBoundsException.class, undoHistory::redo);
+    }
+
+    @Test
+    public void record_afterUndo_discardsUndoneDeltas() {
+        UndoHistory undoHistory = new UndoHistory(Long.MAX_VALUE);
+        undoHistory.record(FIRST_DELTA);
+        undoHistory.record(SECOND_DELTA);
+        undoHistory.undo();
+        undoHistory.record(THIRD_DELTA);
+
+        assertFalse(undoHistory.hasRedo());
+        assertEquals(FIRST_DELTA.estimateSize() + THIRD_DELTA.estimateSize(), undoHistory.getSize());
+        assertEquals(THIRD_DELTA, undoHistory.undo());
+        assertEquals(FIRST_DELTA, undoHistory.undo());
+    }
+
+    @Test
+    public void record_budgetExceeded_forgetsOldestDeltas() {
+        UndoHistory undoHistory = new UndoHistory(FIRST_DELTA.estimateSize() + SECOND_DELTA.estimateSize());
+        undoHistory.record(FIRST_DELTA);
+        undoHistory.record(SECOND_DELTA);
+        undoHistory.record(THIRD_DELTA);
+
+        assertEquals(THIRD_DELTA, undoHistory.undo());
+        assertEquals(SECOND_DELTA, undoHistory.undo());
+        assertFalse(undoHistory.hasUndo());
+    }
+
+    @Test
+    public void setMemoryBudget_zero_keepsLatestDelta() {
+        UndoHistory undoHistory = new UndoHistory(Long.MAX_VALUE);
+        undoHistory.record(FIRST_DELTA);
+        undoHistory.record(SECOND_DELTA);
+        undoHistory.setMemoryBudget(0);
+
+        assertEquals(SECOND_DELTA.estimateSize(), undoHistory.getSize());
+        assertEquals(SECOND_DELTA, undoHistory.undo());
+        assertFalse(undoHistory.hasUndo());
+    }
+
+    @Test
+    public void equals() {
+        UndoHistory undoHistory = new UndoHistory(Long.MAX_VALUE);
+        undoHistory.record(FIRST_DELTA);
+        UndoHistory undoHistoryCopy = new UndoHistory(Long.MAX_VALUE);
+        undoHistoryCopy.record(FIRST_DELTA);
+
+        // same values -> returns true
+        assertTrue(undoHistory.equals(undoHistoryCopy));
+
+        // same object -> returns true
+        assertTrue(undoHistory.equals(undoHistory));
+
+        // null -> returns false
+        assertFalse(undoHistory.equals(null));
+
+        // different types -> returns false
+        assertFalse(undoHistory.equals(5));
+
+        // different deltas -> returns false
+        undoHistoryCopy.record(SECOND_DELTA);
+        assertFalse(undoHistory.equals(undoHistoryCopy));
+
+        // different pointer -> returns false
+        undoHistoryCopy.undo();
+        assertFalse(undoHistory.equals(undoHistoryCopy));
+    }
+
+    private static ModelDelta predicateDelta(String keyword) {
+        return new ModelDelta(List.of(), PREDICATE_SHOW_ALL_PERSONS,
+                new NameContainsKeywordsPredicate(List.of(keyword)));
+    }
+}
@@ -18,4 +18,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryMemoryBudget_negativeBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMemoryBudget(-1));
+    }
+
+    @Test
+    public void setParallelSearchThreshold_negativeThreshold_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelSearchThreshold(-1));
+    }
+
 }
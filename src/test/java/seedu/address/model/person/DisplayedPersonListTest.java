@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class DisplayedPersonListTest {
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+    private final DisplayedPersonList displayedPersonList = new DisplayedPersonList(source);
+    private final int[] changeCount = {0};
+
+    @BeforeEach
+    public void setUp() {
+        displayedPersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DisplayedPersonList(null));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+                -> displayedPersonList.asUnmodifiableObservableList().remove(0));
+    }
+
+    @Test
+    public void sourceChanged_notDeferred_mirrorsChanges() {
+        source.add(DANIEL);
+        source.remove(BENSON);
+        source.set(0, BENSON);
+        source.sort((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        source.setAll(CARL, ALICE);
+
+        assertEquals(Arrays.asList(CARL, ALICE), displayedPersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void publishChanges_deferredChanges_publishesSingleChange() {
+        displayedPersonList.deferChanges();
+        source.add(DANIEL);
+        source.remove(ALICE);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), displayedPersonList.asUnmodifiableObservableList());
+        assertEquals(0, changeCount[0]);
+
+        displayedPersonList.publishChanges();
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), displayedPersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+
+        // changes are mirrored again
+        source.remove(DANIEL);
+        assertEquals(List.of(BENSON, CARL), displayedPersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void publishChanges_cancelledOutChanges_publishesNothing() {
+        displayedPersonList.deferChanges();
+        source.add(DANIEL);
+        source.remove(DANIEL);
+        displayedPersonList.publishChanges();
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), displayedPersonList.asUnmodifiableObservableList());
+        assertEquals(0, changeCount[0]);
+    }
+}
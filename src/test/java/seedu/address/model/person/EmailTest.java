@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -84,5 +85,13 @@ public class EmailTest {
 
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
+
+        // same values in different case -> returns true
+        assertTrue(email.equals(new Email("VALID@email")));
+    }
+
+    @Test
+    public void hashCode_sameValueDifferentCase_equal() {
+        assertEquals(new Email("valid@email").hashCode(), new Email("VALID@Email").hashCode());
     }
 }
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -108,6 +111,39 @@ public class FilteredPersonListTest {
         assertEquals("wall street", filteredPersonList.getSortedList().get(3).getAddress().toString());
     }
 
+    @Test
+    public void filterBy_sortedList_filtersAndKeepsSortOrder() {
+        filteredPersonList.sortByFilteredList("n/");
+        filteredPersonList.filterBy(person -> !person.equals(TypicalPersons.BENSON));
+        assertEquals(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.CARL, TypicalPersons.DANIEL),
+                filteredPersonList.getSortedList());
+
+        filteredPersonList.filterBy(person -> true);
+        assertEquals(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BENSON, TypicalPersons.CARL,
+                TypicalPersons.DANIEL), filteredPersonList.getSortedList());
+    }
+
+    @Test
+    public void keepSourceOrder_sortedList_sourceOrder() {
+        filteredPersonList.sortByFilteredList("n/");
+        filteredPersonList.keepSourceOrder();
+        assertEquals(personList, filteredPersonList.getSortedList());
+    }
+
+    @Test
+    public void sortByFilteredList_manySorts_sameListUpdatedInPlace() {
+        ObservableList<Person> sortedList = filteredPersonList.getSortedList();
+        for (int i = 0; i < 1000; i++) {
+            filteredPersonList.sortByFilteredList(i % 2 == 0 ? "n/" : "p/");
+        }
+        assertSame(sortedList, filteredPersonList.getSortedList());
+
+        // persons added to the source list are sorted by the last order only
+        personList.add(TypicalPersons.ELLE);
+        assertEquals(Arrays.asList(TypicalPersons.ELLE, TypicalPersons.DANIEL, TypicalPersons.ALICE,
+                TypicalPersons.CARL, TypicalPersons.BENSON), filteredPersonList.getSortedList());
+    }
+
     @Test
     public void sortBy_emptyList_sortedListEmpty() {
         ObservableList<Person> emptyList = FXCollections.observableArrayList();
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class IncrementalPersonSearchTest {
+
+    private final List<Person> persons = new ArrayList<>(getTypicalPersons());
+    private final IncrementalPersonSearch search = new IncrementalPersonSearch(persons);
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IncrementalPersonSearch(null));
+        assertThrows(NullPointerException.class, () -> search.search(null, () -> false));
+        assertThrows(NullPointerException.class, () -> search.search(namePredicate("meier"), null));
+    }
+
+    @Test
+    public void search_extendedKeywords_sameAsExactMatches() {
+        for (String keyword : Arrays.asList("e", "me", "mei", "meie", "meier", "meierx", "m", "me")) {
+            PersonContainsKeywordsPredicate predicate = namePredicate(keyword);
+            assertEquals(Optional.of(persons.stream().filter(predicate::matchesExactly).collect(Collectors.toList())),
+                    search.search(predicate, () -> false), keyword);
+        }
+    }
+
+    @Test
+    public void search_snapshotTaken_laterChangesIgnored() {
+        persons.clear();
+        assertEquals(Optional.of(Arrays.asList(BENSON, DANIEL)), search.search(namePredicate("meier"), () -> false));
+    }
+
+    @Test
+    public void search_cancelled_returnsEmptyAndKeepsPreviousMatches() {
+        search.search(namePredicate("e"), () -> false);
+        assertTrue(search.search(namePredicate("me"), () -> true).isEmpty());
+
+        // the next query refines the matches of the last query that was not cancelled
+        assertEquals(Optional.of(Arrays.asList(DANIEL, ELLE)), search.search(namePredicate("el"), () -> false));
+    }
+
+    private static PersonContainsKeywordsPredicate namePredicate(String keyword) {
+        return new PersonContainsKeywordsPredicate(List.of(keyword), true, false, false, false, false);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher((String[]) null));
+    }
+
+    @Test
+    public void occursIn_noKeywords_neverFound() {
+        KeywordMatcher matcher = new KeywordMatcher();
+        assertFalse(matcher.occursIn(""));
+        assertFalse(matcher.occursIn("alice"));
+    }
+
+    @Test
+    public void occursIn_emptyKeyword_alwaysFound() {
+        KeywordMatcher matcher = new KeywordMatcher("zzz", "");
+        assertTrue(matcher.occursIn(""));
+        assertTrue(matcher.occursIn("alice"));
+    }
+
+    @Test
+    public void occursIn_singleKeyword_foundAsSubstring() {
+        KeywordMatcher matcher = new KeywordMatcher("ell");
+        assertTrue(matcher.occursIn("hello"));
+        assertFalse(matcher.occursIn("helo"));
+    }
+
+    @Test
+    public void occursIn_overlappingKeywords_foundThroughFailureLinks() {
+        KeywordMatcher matcher = new KeywordMatcher("he", "she", "his", "hers");
+        assertTrue(matcher.occursIn("ushers"));
+        assertTrue(matcher.occursIn("ahis"));
+        assertTrue(matcher.occursIn("sshe"));
+        assertFalse(matcher.occursIn("shi"));
+        assertFalse(matcher.occursIn("hxs"));
+
+        // the keyword is only found through the failure link of a longer prefix
+        matcher = new KeywordMatcher("abcd", "bc");
+        assertTrue(matcher.occursIn("xabcx"));
+        assertFalse(matcher.occursIn("abdc"));
+    }
+
+    @Test
+    public void occursIn_nonAsciiKeywords_found() {
+        KeywordMatcher matcher = new KeywordMatcher("r\u00e9my", "\u00fcber", "m\u00fcller");
+        assertTrue(matcher.occursIn("12 rue r\u00e9my"));
+        assertTrue(matcher.occursIn("mueller m\u00fcller"));
+        assertFalse(matcher.occursIn("remy \u00fcbe"));
+        assertFalse(matcher.occursIn("\u4e2d\u6587"));
+    }
+
+    @Test
+    public void occursIn_randomKeywords_sameAsContains() {
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            String[] keywords = new String[1 + random.nextInt(20)];
+            for (int j = 0; j < keywords.length; j++) {
+                keywords[j] = randomString(random, 1 + random.nextInt(5));
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+            for (int j = 0; j < 20; j++) {
+                String text = randomString(random, random.nextInt(30));
+                boolean isExpected = false;
+                for (String keyword : keywords) {
+                    isExpected |= text.contains(keyword);
+                }
+                assertEquals(isExpected, matcher.occursIn(text), String.join(",", keywords) + " in " + text);
+            }
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            // mostly a few letters so that keywords overlap, and sometimes a character outside ASCII
+            string.append(random.nextInt(10) == 0 ? '\u00e9' : (char) ('a' + random.nextInt(4)));
+        }
+        return string.toString();
+    }
+}
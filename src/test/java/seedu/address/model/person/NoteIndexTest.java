@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class NoteIndexTest {
+
+    @Test
+    public void toWords_punctuationAndSpaces_separateWords() {
+        assertEquals(List.of("follow", "up", "call", "2pm"), NoteIndex.toWords("  follow-up call,2pm!"));
+        assertEquals(List.of("caf\u00e9", "\u4f1a\u8bae"), NoteIndex.toWords("caf\u00e9 (\u4f1a\u8bae)"));
+        assertEquals(List.of(), NoteIndex.toWords(" -- "));
+    }
+
+    @Test
+    public void containsPhrase() {
+        List<String> words = NoteIndex.toWords("call the client back, then call again");
+        assertTrue(NoteIndex.containsPhrase(words, new String[] {"call"}));
+        assertTrue(NoteIndex.containsPhrase(words, new String[] {"back", "then", "call"}));
+        assertTrue(NoteIndex.containsPhrase(words, new String[] {"call", "again"}));
+        assertFalse(NoteIndex.containsPhrase(words, new String[] {"call", "back"}));
+        assertFalse(NoteIndex.containsPhrase(words, new String[] {"cal"}));
+        assertFalse(NoteIndex.containsPhrase(words, new String[] {}));
+    }
+
+    @Test
+    public void find_phrases_sameSlotsAsScanning() {
+        Random random = new Random(3);
+        String[] vocabulary = {"call", "email", "client", "invoice", "paid", "late", "follow", "up"};
+        List<List<String>> notes = new ArrayList<>();
+        NoteIndex index = new NoteIndex();
+        for (int slot = 0; slot < 300; slot++) {
+            StringBuilder note = new StringBuilder();
+            for (int i = random.nextInt(12); i > 0; i--) {
+                note.append(vocabulary[random.nextInt(vocabulary.length)]).append(random.nextBoolean() ? " " : ", ");
+            }
+            index.add(slot, note.toString());
+            notes.add(NoteIndex.toWords(note.toString()));
+        }
+
+        for (int query = 0; query < 200; query++) {
+            String[] phrase = new String[1 + random.nextInt(3)];
+            for (int i = 0; i < phrase.length; i++) {
+                phrase[i] = vocabulary[random.nextInt(vocabulary.length)];
+            }
+            BitSet matches = new BitSet();
+            BitSet unindexed = new BitSet();
+            index.find(phrase, matches, unindexed);
+            assertTrue(unindexed.isEmpty());
+            for (int slot = 0; slot < notes.size(); slot++) {
+                assertEquals(NoteIndex.containsPhrase(notes.get(slot), phrase), matches.get(slot));
+            }
+        }
+    }
+
+    @Test
+    public void find_longNote_leftToBeScanned() {
+        NoteIndex index = new NoteIndex();
+        index.add(0, "call ".repeat(NoteIndex.MAX_INDEXED_WORDS) + "invoice");
+        index.add(1, "invoice");
+
+        BitSet matches = new BitSet();
+        BitSet unindexed = new BitSet();
+        index.find(new String[] {"invoice"}, matches, unindexed);
+        assertEquals(BitSet.valueOf(new long[] {0b10}), matches);
+        assertEquals(BitSet.valueOf(new long[] {0b1}), unindexed);
+    }
+}
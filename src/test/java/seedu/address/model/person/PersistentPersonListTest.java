@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersistentPersonListTest {
+
+    @Test
+    public void empty_hasNoPersons() {
+        assertTrue(PersistentPersonList.EMPTY.isEmpty());
+        assertEquals(0, PersistentPersonList.EMPTY.size());
+        assertEquals(Collections.emptyList(), PersistentPersonList.EMPTY.toList());
+    }
+
+    @Test
+    public void of_personsAndIds_keepsOrder() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL);
+        List<PersonId> ids = Arrays.asList(PersonId.next(), PersonId.next(), PersonId.next());
+        PersistentPersonList list = PersistentPersonList.of(persons, ids);
+
+        assertEquals(persons, list.toList());
+        assertEquals(ids, list.toIdList());
+        assertEquals(BENSON, list.get(1));
+        assertEquals(ids.get(1), list.getId(1));
+    }
+
+    @Test
+    public void of_mismatchedIds_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                PersistentPersonList.of(Arrays.asList(ALICE, BENSON), Collections.singletonList(PersonId.next())));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentPersonList list = PersistentPersonList.EMPTY.add(PersonId.next(), ALICE);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, PersonId.next(), BENSON));
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentPersonList original = PersistentPersonList.EMPTY
+                .add(PersonId.next(), ALICE)
+                .add(PersonId.next(), BENSON);
+
+        PersistentPersonList added = original.add(0, PersonId.next(), CARL);
+        PersistentPersonList replaced = original.set(1, PersonId.next(), DANIEL);
+        PersistentPersonList removed = original.remove(0);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), original.toList());
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), added.toList());
+        assertEquals(Arrays.asList(ALICE, DANIEL), replaced.toList());
+        assertEquals(Collections.singletonList(BENSON), removed.toList());
+    }
+
+    @Test
+    public void updates_randomSequence_matchesArrayList() {
+        Random random = new Random(2103);
+        List<Person> expected = new ArrayList<>();
+        List<PersistentPersonList> versions = new ArrayList<>();
+        List<List<Person>> expectedVersions = new ArrayList<>();
+        PersistentPersonList actual = PersistentPersonList.EMPTY;
+
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder().withEmail("person" + i + "@example.com").build();
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, person);
+                actual = actual.add(index, PersonId.next(), person);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, person);
+                actual = actual.set(index, PersonId.next(), person);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+
+            if (i % 100 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+
+        // earlier versions are unaffected by later updates
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersistentPersonList list = PersistentPersonList.EMPTY.add(PersonId.next(), ALICE);
+
+        // same persons, different ids -> returns true
+        assertEquals(list, PersistentPersonList.EMPTY.add(PersonId.next(), ALICE));
+
+        // same object -> returns true
+        assertEquals(list, list);
+
+        // null -> returns false
+        assertNotEquals(list, null);
+
+        // different persons -> returns false
+        assertNotEquals(list, PersistentPersonList.EMPTY.add(PersonId.next(), BENSON));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.List;
 
@@ -70,6 +71,7 @@ public class PersonContainsKeywordsPredicateTest {
                 new PersonContainsKeywordsPredicate(List.of("Alice"), true, false,
                         false, false, false);
         assertTrue(firstPredicate.equals(secondPredicate));
+        assertEquals(firstPredicate.hashCode(), secondPredicate.hashCode());
     }
 
     @Test
@@ -94,6 +96,131 @@ public class PersonContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void test_blankKeyword_matchesNothingExactly() {
+        PersonContainsKeywordsPredicate predicate =
+                new PersonContainsKeywordsPredicate(List.of("   "), false, true,
+                        false, false, true);
+        assertFalse(predicate.test(new PersonBuilder().withPhone("12345678").withTags("friend").build()));
+    }
+
+    @Test
+    public void test_differentlyComposedAccents_returnsTrue() {
+        PersonContainsKeywordsPredicate predicate =
+                new PersonContainsKeywordsPredicate(List.of("RE\u0301MY"), false, false,
+                        false, true, false);
+        assertTrue(predicate.test(new PersonBuilder().withAddress("12 Rue R\u00e9my").build()));
+    }
+
+    @Test
+    public void constructor_negativeRankLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonContainsKeywordsPredicate(List.of("Alice"),
+                true, false, false, false, false, -1));
+    }
+
+    @Test
+    public void equals_differentRankLimits_returnsFalse() {
+        PersonContainsKeywordsPredicate unranked =
+                new PersonContainsKeywordsPredicate(List.of("Alice"), true, false, false, false, false);
+        PersonContainsKeywordsPredicate ranked =
+                new PersonContainsKeywordsPredicate(List.of("Alice"), true, false, false, false, false, 5);
+        assertFalse(unranked.equals(ranked));
+        assertTrue(ranked.equals(
+                new PersonContainsKeywordsPredicate(List.of("Alice"), true, false, false, false, false, 5)));
+        assertFalse(unranked.isRanked());
+        assertTrue(ranked.isRanked());
+    }
+
+    @Test
+    public void scoreOf_matchKinds_exactThenPrefixThenSubstringThenApproximate() {
+        PersonContainsKeywordsPredicate predicate =
+                new PersonContainsKeywordsPredicate(List.of("Meier"), true, false, false, false, false, 5);
+        int exact = predicate.scoreOf(new PersonBuilder().withName("Anna Meier").build());
+        int prefix = predicate.scoreOf(new PersonBuilder().withName("Anna Meierhof").build());
+        int substring = predicate.scoreOf(new PersonBuilder().withName("Anna Obermeierhof").build());
+        int approximate = predicate.scoreOf(new PersonBuilder().withName("Anna Meyer").build());
+        int fartherApproximate = predicate.scoreOf(new PersonBuilder().withName("Anna Mayer").build());
+        int none = predicate.scoreOf(new PersonBuilder().withName("Anna Kunz").build());
+
+        assertTrue(exact > prefix);
+        assertTrue(prefix > substring);
+        assertTrue(substring > approximate);
+        assertTrue(approximate > fartherApproximate);
+        assertTrue(fartherApproximate > none);
+        assertEquals(0, none);
+    }
+
+    @Test
+    public void scoreOf_fields_nameWeighsMoreThanAddress() {
+        PersonContainsKeywordsPredicate predicate =
+                new PersonContainsKeywordsPredicate(List.of("kent"), true, false, false, true, false, 5);
+        int inName = predicate.scoreOf(new PersonBuilder().withName("Clark Kent").withAddress("1 Main St").build());
+        int inAddress = predicate.scoreOf(new PersonBuilder().withName("Clark").withAddress("1 Kent Rd").build());
+        assertTrue(inName > inAddress);
+
+        // every keyword found adds to the score
+        PersonContainsKeywordsPredicate twoKeywords =
+                new PersonContainsKeywordsPredicate(List.of("clark", "kent"), true, false, false, false, false, 5);
+        assertTrue(twoKeywords.scoreOf(new PersonBuilder().withName("Clark Kent").build())
+                > twoKeywords.scoreOf(new PersonBuilder().withName("Clark Wayne").build()));
+    }
+
+    @Test
+    public void hasNarrowerExactMatchesThan() {
+        PersonContainsKeywordsPredicate typed =
+                new PersonContainsKeywordsPredicate(List.of("Ali", "be"), true, false, false, false, false);
+
+        // every keyword extended -> returns true
+        assertTrue(new PersonContainsKeywordsPredicate(List.of("Alic", "Ben"), true, false, false, false, false)
+                .hasNarrowerExactMatchesThan(typed));
+
+        // fewer keywords -> returns true
+        assertTrue(new PersonContainsKeywordsPredicate(List.of("Alice"), true, false, false, false, false)
+                .hasNarrowerExactMatchesThan(typed));
+
+        // new keyword -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("Alice", "be", "c"), true, false, false, false,
+                false).hasNarrowerExactMatchesThan(typed));
+
+        // shortened keyword -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("Al"), true, false, false, false, false)
+                .hasNarrowerExactMatchesThan(typed));
+
+        // more fields -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("Alice"), true, true, false, false, false)
+                .hasNarrowerExactMatchesThan(typed));
+
+        // notes are searched for whole words, so only longer phrases are narrower
+        PersonContainsKeywordsPredicate typedNote = notePredicate("call");
+        assertTrue(notePredicate("call back").hasNarrowerExactMatchesThan(typedNote));
+        assertFalse(notePredicate("callback").hasNarrowerExactMatchesThan(typedNote));
+    }
+
+    @Test
+    public void test_noteContainsPhrase_returnsTrue() {
+        Person person = new PersonBuilder().withNote("Call back on Monday, re: late invoice.").build();
+        assertTrue(notePredicate("call back").test(person));
+        assertTrue(notePredicate("MONDAY re").test(person));
+        assertTrue(notePredicate("xyz", "invoice").test(person));
+    }
+
+    @Test
+    public void test_noteDoesNotContainPhrase_returnsFalse() {
+        Person person = new PersonBuilder().withName("Alice").withNote("Call back on Monday").build();
+        assertFalse(notePredicate("back call").test(person));
+        assertFalse(notePredicate("mon").test(person));
+        assertFalse(notePredicate("alice").test(person));
+
+        // notes are not searched unless asked for
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("monday"), true, true, true, true, true)
+                .test(person));
+    }
+
+    private static PersonContainsKeywordsPredicate notePredicate(String... keywords) {
+        return new PersonContainsKeywordsPredicate(List.of(keywords), false, false, false, false, false, true,
+                PersonContainsKeywordsPredicate.UNRANKED);
+    }
+
     @Test
     public void toString_validPredicate_correctString() {
         List<String> keywords = List.of("Alice", "Bob");
@@ -108,6 +235,8 @@ public class PersonContainsKeywordsPredicateTest {
                 .add("searchEmail", true)
                 .add("searchAddress", false)
                 .add("searchTags", true)
+                .add("searchNote", false)
+                .add("rankLimit", PersonContainsKeywordsPredicate.UNRANKED)
                 .toString();
 
         assertEquals(expectedString, predicate.toString());
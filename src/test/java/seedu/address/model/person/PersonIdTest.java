@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    @Test
+    public void next_calledTwice_returnsDifferentIds() {
+        PersonId first = PersonId.next();
+        PersonId second = PersonId.next();
+
+        assertNotEquals(first, second);
+        assertTrue(first.value < second.value);
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = PersonId.next();
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(id.value));
+
+        // different ids -> returns false
+        assertFalse(id.equals(PersonId.next()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonId id = PersonId.next();
+        assertEquals(String.valueOf(id.value), id.toString());
+    }
+}
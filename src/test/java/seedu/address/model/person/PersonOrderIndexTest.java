@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonOrderIndexTest {
+
+    private final PersonId aliceId = PersonId.next();
+    private final PersonId bensonId = PersonId.next();
+    private final PersonId carlId = PersonId.next();
+    private final PersonId danielId = PersonId.next();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonOrderIndex(null, List.of(), List.of()));
+    }
+
+    @Test
+    public void sortedPositions_indexedPersons_positionsInOrder() {
+        PersonOrderIndex index = new PersonOrderIndex(PersonSortOrder.of("n/"),
+                Arrays.asList(DANIEL, ALICE, CARL, BENSON), Arrays.asList(danielId, aliceId, carlId, bensonId));
+        Map<PersonId, Integer> positions = positionsOf(danielId, aliceId, carlId, bensonId);
+
+        assertEquals(4, index.size());
+        assertArrayEquals(new int[] {1, 3, 2, 0}, index.sortedPositions(positions::get));
+    }
+
+    @Test
+    public void sortedPositions_equalSortKeys_keepsCurrentOrder() {
+        // ALICE and DANIEL have the same tags, and CARL has no tags
+        PersonOrderIndex index = new PersonOrderIndex(PersonSortOrder.of("t/"),
+                Arrays.asList(CARL, ALICE, DANIEL), Arrays.asList(carlId, aliceId, danielId));
+
+        assertArrayEquals(new int[] {1, 2, 0}, index.sortedPositions(positionsOf(carlId, aliceId, danielId)::get));
+        assertArrayEquals(new int[] {0, 1, 2}, index.sortedPositions(positionsOf(danielId, aliceId, carlId)::get));
+    }
+
+    @Test
+    public void addRemove_updatesOrder() {
+        PersonOrderIndex index = new PersonOrderIndex(PersonSortOrder.of("p/"),
+                Arrays.asList(ALICE, BENSON), Arrays.asList(aliceId, bensonId));
+        index.add(danielId, DANIEL);
+        index.remove(bensonId, BENSON);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("80000000").build();
+        index.remove(aliceId, ALICE);
+        index.add(aliceId, editedAlice);
+
+        assertEquals(2, index.size());
+        assertArrayEquals(new int[] {0, 1}, index.sortedPositions(positionsOf(aliceId, danielId)::get));
+    }
+
+    private static Map<PersonId, Integer> positionsOf(PersonId... ids) {
+        Map<PersonId, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            positions.put(ids[i], i);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonRankingTest {
+
+    private static final Person EXACT = new PersonBuilder().withName("Anna Meier").withPhone("11111111")
+            .withEmail("anna@example.com").build();
+    private static final Person PREFIX = new PersonBuilder().withName("Ben Meierhof").withPhone("22222222")
+            .withEmail("ben@example.com").build();
+    private static final Person SUBSTRING = new PersonBuilder().withName("Carl Obermeier").withPhone("33333333")
+            .withEmail("carl@example.com").build();
+    private static final Person APPROXIMATE = new PersonBuilder().withName("Dora Meyer").withPhone("44444444")
+            .withEmail("dora@example.com").build();
+    private static final Person OTHER = new PersonBuilder().withName("Emil Kunz").withPhone("55555555")
+            .withEmail("emil@example.com").build();
+
+    private final List<Person> persons = Arrays.asList(OTHER, APPROXIMATE, SUBSTRING, PREFIX, EXACT);
+
+    @Test
+    public void rank_null_throwsNullPointerException() {
+        PersonContainsKeywordsPredicate predicate = rankedPredicate(2, "meier");
+        assertThrows(NullPointerException.class, () -> PersonRanking.rank(null, predicate, persons));
+        assertThrows(NullPointerException.class, () -> PersonRanking.rank(predicate, null, persons));
+        assertThrows(NullPointerException.class, () -> PersonRanking.rank(predicate, predicate, null));
+    }
+
+    @Test
+    public void rank_moreMatchesThanLimit_keepsMostRelevantInOrder() {
+        PersonContainsKeywordsPredicate predicate = rankedPredicate(3, "meier");
+        assertEquals(Arrays.asList(EXACT, PREFIX, SUBSTRING), ranked(PersonRanking.rank(predicate, predicate,
+                persons)));
+    }
+
+    @Test
+    public void rank_fewerMatchesThanLimit_ranksAllMatches() {
+        PersonContainsKeywordsPredicate predicate = rankedPredicate(10, "meier");
+        assertEquals(Arrays.asList(EXACT, PREFIX, SUBSTRING, APPROXIMATE), ranked(PersonRanking.rank(predicate,
+                predicate, persons)));
+    }
+
+    @Test
+    public void rank_limitFarLargerThanList_ranksAllMatches() {
+        PersonContainsKeywordsPredicate predicate = rankedPredicate(Integer.MAX_VALUE, "meier");
+        assertEquals(Arrays.asList(EXACT, PREFIX, SUBSTRING, APPROXIMATE), ranked(PersonRanking.rank(predicate,
+                predicate, persons)));
+        assertEquals(Collections.emptyList(), ranked(PersonRanking.rank(predicate, predicate,
+                Collections.emptyList()), Collections.emptyList()));
+    }
+
+    @Test
+    public void rank_sameScores_keepListOrder() {
+        Person firstMeier = new PersonBuilder(EXACT).withName("Fay Meier").build();
+        Person secondMeier = new PersonBuilder(EXACT).withName("Gus Meier").build();
+        Person thirdMeier = new PersonBuilder(EXACT).withName("Hal Meier").build();
+        PersonContainsKeywordsPredicate predicate = rankedPredicate(2, "meier");
+        List<Person> meiers = Arrays.asList(thirdMeier, firstMeier, secondMeier);
+        assertEquals(Arrays.asList(thirdMeier, firstMeier),
+                ranked(PersonRanking.rank(predicate, predicate, meiers), meiers));
+    }
+
+    @Test
+    public void test_personAddedAfterRanking_passedIfBetterThanWorstRanked() {
+        PersonContainsKeywordsPredicate predicate = rankedPredicate(2, "meier");
+        PersonRanking ranking = PersonRanking.rank(predicate, predicate,
+                Arrays.asList(APPROXIMATE, SUBSTRING, PREFIX));
+
+        assertTrue(ranking.test(PREFIX));
+        assertTrue(ranking.test(SUBSTRING));
+        assertFalse(ranking.test(APPROXIMATE));
+        assertTrue(ranking.test(EXACT));
+        assertFalse(ranking.test(OTHER));
+
+        // persons that are not ranked come after the ranked persons
+        List<Person> sorted = new ArrayList<>(Arrays.asList(EXACT, SUBSTRING, PREFIX));
+        sorted.sort(ranking.comparator());
+        assertEquals(Arrays.asList(PREFIX, SUBSTRING, EXACT), sorted);
+    }
+
+    private List<Person> ranked(PersonRanking ranking) {
+        return ranked(ranking, persons);
+    }
+
+    private static List<Person> ranked(PersonRanking ranking, List<Person> persons) {
+        return persons.stream().filter(ranking).sorted(ranking.comparator()).collect(Collectors.toList());
+    }
+
+    private static PersonContainsKeywordsPredicate rankedPredicate(int rankLimit, String... keywords) {
+        return new PersonContainsKeywordsPredicate(Arrays.asList(keywords), true, false, false, false, false,
+                rankLimit);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchFieldsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonSearchFields(null));
+    }
+
+    @Test
+    public void constructor_person_fieldsInSearchForm() {
+        // the accent of the address is decomposed into a combining acute accent
+        Person person = new PersonBuilder().withName("Rene DU Pont").withPhone("98765432")
+                .withEmail("Rene@Example.com").withAddress("12  Rue   Re\u0301my").withTags("VIP")
+                .withNote("Call BACK").build();
+        PersonSearchFields fields = new PersonSearchFields(person);
+
+        assertEquals("rene du pont", fields.name);
+        assertEquals("98765432", fields.phone);
+        assertEquals("rene@example.com", fields.email);
+        assertEquals("12  rue   r\u00e9my", fields.address);
+        assertArrayEquals(new String[] {"vip"}, fields.tagNames);
+        assertEquals("call back", fields.note);
+        assertArrayEquals(new String[] {"rene", "du", "pont"}, fields.nameWords);
+        assertArrayEquals(new String[] {"rene@example.com"}, fields.emailWords);
+        assertArrayEquals(new String[] {"12", "rue", "r\u00e9my"}, fields.addressWords);
+    }
+
+    @Test
+    public void getSearchFields_sameFieldsEveryTime() {
+        Person person = new PersonBuilder().withTags("friends", "colleagues").build();
+        assertSame(person.getSearchFields(), person.getSearchFields());
+
+        String[] tagNames = person.getSearchFields().tagNames.clone();
+        Arrays.sort(tagNames);
+        assertArrayEquals(new String[] {"colleagues", "friends"}, tagNames);
+    }
+}
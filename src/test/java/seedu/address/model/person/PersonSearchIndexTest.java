@@ -0,0 +1,190 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    /** A parallel search threshold that no search reaches. */
+    private static final int SERIAL = Integer.MAX_VALUE;
+
+    @Test
+    public void search_keywords_samePersonsAsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(persons);
+
+        for (String keyword : Arrays.asList("meier", "MEIER", "  kunz ", "ell", "el", "e", "9482", "example.com",
+                "street", "friends", "owesMoney", "Alise", "zzz")) {
+            for (boolean[] fields : new boolean[][] {{true, false, false, false, false}, {false, true, false, false,
+                    false}, {false, false, true, false, false}, {false, false, false, true, false}, {false, false,
+                    false, false, true}, {true, true, true, true, true}}) {
+                PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of(keyword),
+                        fields[0], fields[1], fields[2], fields[3], fields[4]);
+                assertSameMatches(predicate, index.search(predicate, SERIAL), persons);
+            }
+        }
+    }
+
+    @Test
+    public void search_misspelledKeywords_samePersonsAsPredicate() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Kurz").withEmail("kurz@example.com").withAddress("kunz road")
+                .build());
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(persons);
+
+        for (String keyword : Arrays.asList("Kunz", "meir", "alise pauline", "stret", "ab", "exampel.com", "@")) {
+            for (boolean[] fields : new boolean[][] {{true, false, false, false, false}, {false, false, true, false,
+                    false}, {false, false, false, true, false}, {true, true, true, true, true}}) {
+                PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of(keyword),
+                        fields[0], fields[1], fields[2], fields[3], fields[4]);
+                assertSameMatches(predicate, index.search(predicate, SERIAL), persons);
+            }
+        }
+    }
+
+    @Test
+    public void search_multipleKeywords_personsMatchingAnyKeyword() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(Arrays.asList(ALICE, BENSON, CARL));
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("pauline", "kurz"),
+                true, false, false, false, false);
+
+        Predicate<Person> result = index.search(predicate, SERIAL);
+        assertTrue(result.test(ALICE));
+        assertFalse(result.test(BENSON));
+        assertTrue(result.test(CARL));
+    }
+
+    @Test
+    public void search_afterAddRemoveAndReplace_findsCurrentPersons() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(Arrays.asList(ALICE, BENSON));
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Kunz").build();
+        index.add(CARL);
+        index.remove(ALICE);
+        index.remove(BENSON);
+        index.add(editedBenson);
+
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("kunz"),
+                true, false, false, false, false);
+        assertSameMatches(predicate, index.search(predicate, SERIAL), Arrays.asList(CARL, editedBenson));
+    }
+
+    @Test
+    public void search_personAddedAfterSearch_testedAgainstPredicate() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(Arrays.asList(ALICE, BENSON));
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("kurz"),
+                true, false, false, false, false);
+        Predicate<Person> result = index.search(predicate, SERIAL);
+
+        index.add(CARL);
+        assertTrue(result.test(CARL));
+        assertFalse(result.test(ALICE));
+
+        // the index is cleared, so the slots looked up by the result are no longer valid
+        index.clear();
+        index.build(Arrays.asList(CARL, BENSON, ALICE));
+        assertTrue(result.test(CARL));
+        assertFalse(result.test(ALICE));
+    }
+
+    @Test
+    public void search_notePhrases_samePersonsAsPredicate() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Noted").withEmail("noted@example.com")
+                .withNote("Follow-up call on Monday; follow up the invoice, then call again.").build());
+        persons.add(new PersonBuilder().withName("Long").withEmail("long@example.com")
+                .withNote("filler ".repeat(NoteIndex.MAX_INDEXED_WORDS) + "follow up call").build());
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(persons);
+
+        for (String keyword : Arrays.asList("follow up", "FOLLOW-UP CALL", "up call", "call follow", "invoice",
+                "invoic", "timezones", "opposite timezones", "monday follow", "again", "!")) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of(keyword),
+                    false, false, false, false, false, true, PersonContainsKeywordsPredicate.UNRANKED);
+            assertSameMatches(predicate, index.search(predicate, SERIAL), persons);
+        }
+    }
+
+    @Test
+    public void search_noteReplaced_findsCurrentNote() {
+        Person notedBenson = new PersonBuilder(BENSON).withNote("Prefers email").build();
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(Arrays.asList(ALICE, BENSON));
+        index.remove(BENSON);
+        index.add(notedBenson);
+
+        Predicate<Person> result = index.search(new PersonContainsKeywordsPredicate(List.of("email"),
+                false, false, false, false, false, true, PersonContainsKeywordsPredicate.UNRANKED), SERIAL);
+        assertTrue(result.test(notedBenson));
+        assertFalse(result.test(ALICE));
+        assertFalse(index.search(new PersonContainsKeywordsPredicate(List.of("timezones"),
+                false, false, false, false, false, true, PersonContainsKeywordsPredicate.UNRANKED), SERIAL)
+                .test(notedBenson));
+    }
+
+    @Test
+    public void remove_mostPersons_rebuildsIndex() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .withPhone(String.valueOf(10000000 + i)).build());
+        }
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(persons);
+        for (int i = 0; i < 3000; i++) {
+            index.remove(persons.get(i));
+        }
+
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("1000399"),
+                false, true, false, false, false);
+        List<Person> remainingPersons = persons.subList(3000, persons.size());
+        assertSameMatches(predicate, index.search(predicate, SERIAL), remainingPersons);
+        assertEquals(10, remainingPersons.stream().filter(index.search(predicate, SERIAL)).count());
+    }
+
+    @Test
+    public void search_parallel_sameMatchesAsSerial() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .withPhone(String.valueOf(10000000 + i)).build());
+        }
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.build(persons);
+        index.remove(persons.get(4097));
+
+        for (String keyword : Arrays.asList("1000", "99", "person 4", "persn", "zzz")) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of(keyword),
+                    true, true, true, false, false);
+            List<Person> serialMatches = persons.stream().filter(index.search(predicate, SERIAL))
+                    .collect(Collectors.toList());
+            assertEquals(serialMatches, persons.stream().filter(index.search(predicate, 0))
+                    .collect(Collectors.toList()));
+            assertSameMatches(predicate, index.search(predicate, 1), persons);
+        }
+    }
+
+    private static void assertSameMatches(Predicate<Person> expected, Predicate<Person> actual, List<Person> persons) {
+        assertEquals(persons.stream().filter(expected).collect(Collectors.toList()),
+                persons.stream().filter(actual).collect(Collectors.toList()), expected.toString());
+    }
+}
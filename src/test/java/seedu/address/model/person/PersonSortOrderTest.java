@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortOrderTest {
+
+    @Test
+    public void of_invalidPrefixes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Invalid sort prefix.", () -> PersonSortOrder.of("x/"));
+        assertThrows(IllegalArgumentException.class, "Invalid combination of prefixes.", () ->
+                PersonSortOrder.of("n/", "p/"));
+        assertThrows(IllegalArgumentException.class, "Invalid combination of prefixes.", () ->
+                PersonSortOrder.of("t/", "t/"));
+        assertThrows(IllegalArgumentException.class, "Invalid combination of prefixes.", () ->
+                PersonSortOrder.of("t/", "x/"));
+        assertThrows(IllegalArgumentException.class, "Invalid number of prefixes.", () ->
+                PersonSortOrder.of("t/", "n/", "p/"));
+    }
+
+    @Test
+    public void of_validPrefixes_success() {
+        assertEquals(PersonSortOrder.of(PersonSortOrder.Field.NAME), PersonSortOrder.of("n/"));
+        assertEquals(PersonSortOrder.of("t/", "p/"), PersonSortOrder.of("t/", "p/"));
+        assertFalse(PersonSortOrder.of("t/").equals(PersonSortOrder.of("t/", "p/")));
+    }
+
+    @Test
+    public void sort_byName_ignoresCase() {
+        Person bob = new PersonBuilder().withName("bob").build();
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person upperBob = new PersonBuilder().withName("Bob").build();
+
+        assertEquals(Arrays.asList(alice, upperBob, bob), PersonSortOrder.of("n/").sort(Arrays.asList(bob, alice,
+                upperBob)));
+    }
+
+    @Test
+    public void sort_byAddress_ignoresAccents() {
+        Person zurich = new PersonBuilder().withAddress("Zurich").build();
+        Person ecole = new PersonBuilder().withAddress("École Street").build();
+        Person dover = new PersonBuilder().withAddress("dover road").build();
+
+        assertEquals(Arrays.asList(dover, ecole, zurich), PersonSortOrder.of("a/").sort(Arrays.asList(zurich, ecole,
+                dover)));
+    }
+
+    @Test
+    public void sort_byPhone_numericOrder() {
+        Person longPhone = new PersonBuilder().withPhone("100000000000000").build();
+        Person shortPhone = new PersonBuilder().withPhone("911").build();
+        Person mediumPhone = new PersonBuilder().withPhone("98765432").build();
+
+        assertEquals(Arrays.asList(shortPhone, mediumPhone, longPhone), PersonSortOrder.of("p/").sort(
+                Arrays.asList(longPhone, shortPhone, mediumPhone)));
+    }
+
+    @Test
+    public void sort_byTags_deterministicOrder() {
+        Person untagged = new PersonBuilder().withName("Untagged").withTags().build();
+        Person friendsAndFamily = new PersonBuilder().withName("Both").withTags("friends", "family").build();
+        Person familyAndFriends = new PersonBuilder().withName("Both Again").withTags("family", "friends").build();
+        Person family = new PersonBuilder().withName("Family").withTags("family").build();
+        Person friends = new PersonBuilder().withName("Friends").withTags("friends").build();
+
+        // persons with the same tags keep their relative order, regardless of the order of their tags
+        assertEquals(Arrays.asList(family, friendsAndFamily, familyAndFriends, friends, untagged),
+                PersonSortOrder.of("t/").sort(Arrays.asList(untagged, friendsAndFamily, friends, familyAndFriends,
+                        family)));
+        assertEquals(Arrays.asList(family, familyAndFriends, friendsAndFamily, friends, untagged),
+                PersonSortOrder.of("t/").sort(Arrays.asList(familyAndFriends, friends, untagged, family,
+                        friendsAndFamily)));
+
+        // persons with the same tags are ordered by the second field
+        assertEquals(Arrays.asList(family, friendsAndFamily, familyAndFriends, friends, untagged),
+                PersonSortOrder.of("t/", "n/").sort(Arrays.asList(familyAndFriends, friends, untagged, family,
+                        friendsAndFamily)));
+    }
+
+    @Test
+    public void sort_largeList_sameAsComparator() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2 * PersonSortOrder.PARALLEL_SORT_THRESHOLD; i++) {
+            // many duplicate names, so that the sort must be stable to keep the order of the phones
+            persons.add(new PersonBuilder().withName("Person " + (i * 7919 % 97))
+                    .withPhone(String.valueOf(10000000 + i)).build());
+        }
+        Collections.shuffle(persons, new Random(0));
+
+        PersonSortOrder order = PersonSortOrder.of("n/");
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        expectedPersons.sort(order.comparatorFor(Collections.emptyList()));
+        assertEquals(expectedPersons, order.sort(persons));
+
+        List<Person> sortedWithKeys = new ArrayList<>(persons);
+        sortedWithKeys.sort(order.comparatorFor(persons));
+        assertEquals(expectedPersons, sortedWithKeys);
+    }
+
+    @Test
+    public void comparatorFor_personWithoutPrecomputedKey_comparedByItsFields() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person bob = new PersonBuilder().withName("Bob").build();
+        PersonSortOrder order = PersonSortOrder.of("n/");
+
+        assertTrue(order.comparatorFor(Collections.singletonList(alice)).compare(alice, bob) < 0);
+        assertTrue(order.comparatorFor(Collections.singletonList(alice)).compare(bob, alice) > 0);
+        assertEquals(0, order.comparatorFor(Collections.emptyList()).compare(bob, bob));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchResultCacheTest {
+
+    private static final Predicate<Person> RESULT = person -> true;
+    private static final Predicate<Person> OTHER_RESULT = person -> false;
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchResultCache(0));
+    }
+
+    @Test
+    public void get_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SearchResultCache(1).get(null, 0));
+    }
+
+    @Test
+    public void get_sameVersion_returnsCachedResult() {
+        SearchResultCache cache = new SearchResultCache(2);
+        cache.put(predicate("alice"), 1, RESULT);
+        assertSame(RESULT, cache.get(predicate("alice"), 1));
+        assertNull(cache.get(predicate("bob"), 1));
+    }
+
+    @Test
+    public void get_laterVersion_evictsEarlierResults() {
+        SearchResultCache cache = new SearchResultCache(2);
+        cache.put(predicate("alice"), 1, RESULT);
+        assertNull(cache.get(predicate("alice"), 2));
+        assertEquals(0, cache.getStatistics().getSize());
+
+        // results of an earlier version are not cached any more
+        cache.put(predicate("alice"), 1, RESULT);
+        assertNull(cache.get(predicate("alice"), 2));
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        SearchResultCache cache = new SearchResultCache(2);
+        cache.put(predicate("alice"), 0, RESULT);
+        cache.put(predicate("bob"), 0, OTHER_RESULT);
+        cache.get(predicate("alice"), 0);
+        cache.put(predicate("carl"), 0, RESULT);
+
+        assertSame(RESULT, cache.get(predicate("alice"), 0));
+        assertNull(cache.get(predicate("bob"), 0));
+        assertSame(RESULT, cache.get(predicate("carl"), 0));
+        assertEquals(2, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void getStatistics_countsHitsAndMisses() {
+        SearchResultCache cache = new SearchResultCache(2);
+        assertEquals(0, cache.getStatistics().getHitRate());
+
+        cache.get(predicate("alice"), 0);
+        cache.put(predicate("alice"), 0, RESULT);
+        cache.get(predicate("alice"), 0);
+        cache.get(predicate("alice"), 0);
+        cache.get(predicate("bob"), 0);
+
+        SearchResultCache.Statistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+        assertEquals(0.5, statistics.getHitRate());
+    }
+
+    private static PersonContainsKeywordsPredicate predicate(String keyword) {
+        return new PersonContainsKeywordsPredicate(List.of(keyword), true, false, false, false, false);
+    }
+}
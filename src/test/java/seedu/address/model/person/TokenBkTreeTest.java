@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class TokenBkTreeTest {
+
+    private final TokenBkTree<List<Integer>> tree = new TokenBkTree<>();
+
+    @Test
+    public void getOrAdd_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.getOrAdd(null, ArrayList::new));
+        assertThrows(NullPointerException.class, () -> tree.getOrAdd("alice", null));
+    }
+
+    @Test
+    public void getOrAdd_sameToken_sameValue() {
+        List<Integer> value = tree.getOrAdd("alice", ArrayList::new);
+        assertSame(value, tree.getOrAdd("alice", ArrayList::new));
+        tree.getOrAdd("alicia", ArrayList::new);
+        assertEquals(2, tree.size());
+
+        tree.clear();
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void forEachWithin_emptyTree_findsNothing() {
+        tree.forEachWithin("alice", 2, (token, value) -> {
+            throw new AssertionError(token);
+        });
+    }
+
+    @Test
+    public void forEachWithin_smallTree_findsCloseTokens() {
+        for (String token : new String[] {"meier", "meyer", "mueller", "kunz", "kurz", "", "ab"}) {
+            tree.getOrAdd(token, ArrayList::new);
+        }
+        assertEquals(Set.of("meier", "meyer"), findWithin("meier", 2));
+        assertEquals(Set.of("meier", "meyer", "mueller"), findWithin("meier", 3));
+        assertEquals(Set.of("meier"), findWithin("meier", 0));
+        assertEquals(Set.of("kunz", "kurz"), findWithin("kuz", 2));
+        assertEquals(Set.of("kunz", "kurz", "", "ab"), findWithin("kuz", 3));
+        assertEquals(Set.of("", "ab"), findWithin("", 2));
+    }
+
+    @Test
+    public void forEachWithin_manyTokens_sameAsComparingEveryToken() {
+        Random random = new Random(0);
+        List<String> tokens = new ArrayList<>();
+        Map<String, Integer> valuesByToken = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            String token = randomToken(random);
+            tokens.add(token);
+            tree.getOrAdd(token, ArrayList::new).add(i);
+            valuesByToken.putIfAbsent(token, i);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomToken(random);
+            Set<String> expected = new TreeSet<>();
+            for (String token : tokens) {
+                if (StringUtil.levenshteinDistance(query, token) <= 2) {
+                    expected.add(token);
+                }
+            }
+            assertEquals(expected, findWithin(query, 2));
+        }
+
+        tree.forEachWithin(tokens.get(0), 0, (token, value) -> assertTrue(value.contains(valuesByToken.get(token))));
+    }
+
+    private Set<String> findWithin(String query, int maxDistance) {
+        Set<String> found = new TreeSet<>();
+        tree.forEachWithin(query, maxDistance, (token, value) -> found.add(token));
+        return found;
+    }
+
+    private static String randomToken(Random random) {
+        StringBuilder token = new StringBuilder();
+        int length = 2 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            token.append((char) ('a' + random.nextInt(4)));
+        }
+        return token.toString();
+    }
+}
@@ -2,9 +2,13 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.model.person.descriptors.EditPersonDescriptor.createEditedPerson;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -16,9 +20,13 @@ import static seedu.address.testutil.TypicalPersons.RACHEL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.descriptors.EditPersonDescriptor;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -51,6 +59,28 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedWithDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -131,6 +161,36 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_afterReordering_removesCorrectPerson() {
+        uniquePersonList.setPersons(Arrays.asList(BOB, DANIEL, ALICE, BENSON));
+        uniquePersonList.sortBy("n/");
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(DANIEL);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_afterRemovalAndPin_replacesCorrectPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, BOB));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.pinPerson(BOB);
+        uniquePersonList.setPerson(DANIEL, RACHEL);
+        assertEquals(Arrays.asList(BOB, BENSON, RACHEL), uniquePersonList.asUnmodifiableObservableList());
+
+        // the edited person can be located again after the list is reordered
+        uniquePersonList.sortBy("n/");
+        uniquePersonList.remove(RACHEL);
+        assertEquals(Arrays.asList(BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -166,6 +226,27 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsAllDuplicateEmails() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, DANIEL, editedBob, ALICE);
+        try {
+            uniquePersonList.setPersons(listWithDuplicatePersons);
+            fail();
+        } catch (DuplicatePersonException e) {
+            assertEquals(Arrays.asList(ALICE.getEmail(), BOB.getEmail()), e.getDuplicateEmails());
+        }
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(DANIEL);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE)));
+        assertEquals(Collections.singletonList(DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(DANIEL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void pinPerson_existingPerson_movesToFirstPosition() {
         uniquePersonList.add(ALICE);
@@ -240,6 +321,60 @@ public class UniquePersonListTest {
 
 
 
+    @Test
+    public void prioritisePins_pinnedAfterUnpinned_stablePartitionWithSingleChange() {
+        Person pinnedBenson = pinned(BENSON);
+        Person pinnedDaniel = pinned(DANIEL);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, pinnedBenson, BOB, pinnedDaniel, ISABELLE));
+
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+        uniquePersonList.prioritisePins();
+
+        assertEquals(Arrays.asList(pinnedBenson, pinnedDaniel, ALICE, BOB, ISABELLE),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void prioritisePins_alreadyPartitioned_noChange() {
+        Person pinnedBenson = pinned(BENSON);
+        uniquePersonList.setPersons(Arrays.asList(pinnedBenson, ALICE, BOB));
+
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+        uniquePersonList.prioritisePins();
+
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void pinPerson_existingPerson_singleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB));
+
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+        uniquePersonList.pinPerson(BOB);
+
+        assertEquals(Arrays.asList(BOB, ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void sortBy_withPinnedPersons_pinnedPersonsSortedFirst() {
+        Person pinnedIsabelle = pinned(ISABELLE);
+        Person pinnedBenson = pinned(BENSON);
+        uniquePersonList.setPersons(Arrays.asList(pinnedIsabelle, BOB, ALICE, pinnedBenson));
+
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+        uniquePersonList.sortBy("n/");
+
+        assertEquals(Arrays.asList(pinnedBenson, pinnedIsabelle, ALICE, BOB),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -365,4 +500,164 @@ public class UniquePersonListTest {
         assertThrows(IllegalArgumentException.class, () -> uniquePersonList.sortBy("t/", "n/", "e/"));
         assertThrows(IllegalArgumentException.class, () -> uniquePersonList.sortBy("a/", "b/", "c/"));
     }
+
+    @Test
+    public void sortBy_afterAddEditAndRemove_sortsUpdatedPersons() {
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, BENSON, ALICE));
+        uniquePersonList.sortBy("n/");
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Zed Meier").build();
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ISABELLE);
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.sortBy("n/");
+
+        assertEquals(Arrays.asList(BOB, DANIEL, ISABELLE, editedBenson),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortBy_equalSortKeys_keepsCurrentOrder() {
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, BENSON, ALICE));
+        uniquePersonList.sortBy("t/");
+        uniquePersonList.sortBy("n/");
+
+        // ALICE and DANIEL have the same tags, so they stay in the order of the previous sort
+        uniquePersonList.sortBy("t/");
+        assertEquals(Arrays.asList(ALICE, DANIEL, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortBy_afterUndoingReset_sortsRestoredPersons() {
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, BENSON, ALICE));
+        uniquePersonList.sortBy("p/");
+        uniquePersonList.startRecordingChanges();
+        uniquePersonList.setPersons(Arrays.asList(BOB));
+        uniquePersonList.undoChanges(uniquePersonList.takeRecordedChanges());
+
+        uniquePersonList.sortBy("n/");
+        uniquePersonList.sortBy("p/");
+        assertEquals(Arrays.asList(DANIEL, ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void search_afterAddEditAndReset_findsCurrentPersons() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("meier"),
+                true, false, false, false, false);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertEquals(Arrays.asList(BENSON), filter(uniquePersonList.search(predicate, Integer.MAX_VALUE)));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.add(DANIEL);
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL),
+                filter(uniquePersonList.search(predicate, Integer.MAX_VALUE)));
+
+        // the index is rebuilt, and the persons tested, in parallel
+        uniquePersonList.setPersons(Arrays.asList(RACHEL, DANIEL));
+        assertEquals(Arrays.asList(DANIEL), filter(uniquePersonList.search(predicate, 0)));
+    }
+
+    @Test
+    public void search_repeatedWithoutChanges_returnsCachedResult() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("meier"),
+                true, false, false, false, false);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Predicate<Person> result = uniquePersonList.search(predicate, Integer.MAX_VALUE);
+
+        // an equal predicate finds the cached result
+        assertSame(result, uniquePersonList.search(new PersonContainsKeywordsPredicate(List.of("meier"),
+                true, false, false, false, false), Integer.MAX_VALUE));
+        assertEquals(1, uniquePersonList.getSearchResultCacheStatistics().getHitCount());
+        assertEquals(1, uniquePersonList.getSearchResultCacheStatistics().getMissCount());
+
+        // a change to the list evaluates the search again
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.add(DANIEL);
+        assertTrue(uniquePersonList.getVersion() > version);
+        Predicate<Person> resultAfterAdd = uniquePersonList.search(predicate, Integer.MAX_VALUE);
+        assertNotSame(result, resultAfterAdd);
+        assertEquals(Arrays.asList(BENSON, DANIEL), filter(resultAfterAdd));
+        assertEquals(2, uniquePersonList.getSearchResultCacheStatistics().getMissCount());
+
+        // so does a reordering
+        uniquePersonList.pinPerson(DANIEL);
+        assertNotSame(resultAfterAdd, uniquePersonList.search(predicate, Integer.MAX_VALUE));
+    }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return uniquePersonList.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Test
+    public void takeRecordedChanges_notRecording_returnsEmptyList() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.takeRecordedChanges().isEmpty());
+    }
+
+    @Test
+    public void undoChanges_recordedChanges_restoresList() {
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, ALICE, BENSON));
+        uniquePersonList.startRecordingChanges();
+        List<Person> original = Arrays.asList(DANIEL, ALICE, BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(DANIEL);
+        uniquePersonList.pinPerson(BOB);
+        uniquePersonList.sortBy("e/");
+        uniquePersonList.setPersons(Arrays.asList(RACHEL, ISABELLE));
+        uniquePersonList.add(DANIEL);
+        List<PersonListChange> changes = uniquePersonList.takeRecordedChanges();
+        assertEquals(7, changes.size());
+
+        uniquePersonList.undoChanges(changes);
+        assertEquals(original, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(original, uniquePersonList.snapshot().toList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+
+        uniquePersonList.redoChanges(changes);
+        assertEquals(Arrays.asList(RACHEL, ISABELLE, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+
+        // undoing and redoing is not itself recorded
+        assertTrue(uniquePersonList.takeRecordedChanges().isEmpty());
+
+        // the restored persons can still be edited and removed
+        uniquePersonList.undoChanges(changes);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BENSON, BOB);
+        assertEquals(Arrays.asList(DANIEL, BOB), uniquePersonList.snapshot().toList());
+    }
+
+    @Test
+    public void pinPerson_recordingChanges_recordsSingleMove() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        uniquePersonList.startRecordingChanges();
+        uniquePersonList.pinPerson(DANIEL);
+
+        List<PersonListChange> changes = uniquePersonList.takeRecordedChanges();
+        assertEquals(List.of(new PersonListChange.Moved(2, 0)), changes);
+        uniquePersonList.undoChanges(changes);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortBy_alreadySorted_recordsNothing() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        uniquePersonList.startRecordingChanges();
+        uniquePersonList.sortBy("n/");
+        assertTrue(uniquePersonList.takeRecordedChanges().isEmpty());
+    }
+
+    /**
+     * Returns a pinned copy of {@code person}.
+     */
+    private static Person pinned(Person person) {
+        EditPersonDescriptor descriptor = new EditPersonDescriptor();
+        descriptor.setPin(new Pin(true));
+        return createEditedPerson(person, descriptor);
+    }
 }
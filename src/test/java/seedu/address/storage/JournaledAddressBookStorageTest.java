@@ -0,0 +1,246 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        String checkpoint = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withNote("Follow up").build());
+        original.pinPerson(CARL);
+        storage.saveAddressBook(original);
+
+        // the checkpoint is left as it was
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.journalPathOf(filePath)).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertEquals(0, Files.size(JournaledAddressBookStorage.journalPathOf(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsDifferenceFromReadPersons() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String checkpoint = Files.readString(filePath);
+
+        // the model copies the address book read, and changes the copy before it is first saved
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        model.addPerson(HOON);
+        storage.saveAddressBook(model);
+
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(model, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_replaysCompleteEntries() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.journalPathOf(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook beforeCrash = new AddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        // a crash while the last entry was being appended
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 5));
+
+        JournaledAddressBookStorage recovered = new JournaledAddressBookStorage(filePath);
+        AddressBook model = new AddressBook(recovered.readAddressBook().get());
+        assertEquals(beforeCrash, model);
+
+        // the torn entry is discarded, so the entries appended next are replayed
+        model.addPerson(IDA);
+        recovered.saveAddressBook(model);
+        model.removePerson(HOON);
+        recovered.saveAddressBook(model);
+        assertEquals(model, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_replaysEntriesBeforeIt() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.journalPathOf(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(journalPath, "{\"sequence\":2,\"splices\":[{\"at\":100,\"removed\":1}]}\n",
+                StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonInCheckpoint_skippedAndJournalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        Person editedCarl = new PersonBuilder(CARL).withNote("Follow up").build();
+        original.setPerson(CARL, editedCarl);
+        storage.saveAddressBook(original);
+
+        // an invalid phone number, e.g. after the file was edited by hand
+        Files.writeString(filePath, Files.readString(filePath).replace(BENSON.getPhone().value, "98a"));
+        AddressBook expected = new AddressBook(original);
+        expected.removePerson(BENSON);
+
+        JournaledAddressBookStorage recovered = new JournaledAddressBookStorage(filePath);
+        AddressBook model = new AddressBook(recovered.readAddressBook().get());
+        assertEquals(expected, model);
+        assertEquals(1, recovered.getSkippedPersonMessages().size());
+
+        // the changes saved next are replayed at the positions of the persons in the file
+        model.removePerson(editedCarl);
+        recovered.saveAddressBook(model);
+        assertEquals(model, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalReachesCheckpointInterval_checkpointsInBackground() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.journalPathOf(filePath);
+        // the journal is checkpointed once it grows to half the size of the checkpoint
+        AddressBook original = new AddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        byte[] includedEntry = Files.readAllBytes(journalPath);
+        storage.awaitCheckpoint();
+
+        assertEquals(0, Files.size(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // a crash after the checkpoint was written, but before the entries it includes were discarded
+        Files.write(journalPath, includedEntry);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void takeSave_writtenAfterLaterChanges_savesChangesUpToTake() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        PendingSave firstSave = storage.takeSave(original);
+        AddressBook saved = new AddressBook(original);
+        original.removePerson(ALICE);
+        PendingSave secondSave = storage.takeSave(original);
+        original.addPerson(IDA);
+
+        // the two saves are written as a single entry
+        firstSave.followedBy(secondSave).write();
+        saved.removePerson(ALICE);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.journalPathOf(filePath)).size());
+        assertEquals(saved, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesWholeAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonsAfterReplay_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.journalPathOf(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the same person added twice
+        String entry = Files.readString(journalPath);
+        Files.writeString(journalPath, entry + entry.replace("\"sequence\":1", "\"sequence\":2"));
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+}
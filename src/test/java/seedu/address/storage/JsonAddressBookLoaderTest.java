@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class JsonAddressBookLoaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookLoaderTest");
+    private static final Path SKIPPED_PERSONS_FILE = TEST_DATA_FOLDER.resolve("skippedPersonsAddressBook.json");
+    private static final Path NOT_ADDRESS_BOOK_FILE = TEST_DATA_FOLDER.resolve("notAddressBook.json");
+    private static final Path TRUNCATED_FILE = TEST_DATA_FOLDER.resolve("truncatedAddressBook.json");
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonAddressBookLoader(null));
+    }
+
+    @Test
+    public void loadPersons_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookLoader(TEST_DATA_FOLDER.resolve("NonExistentFile.json"))
+                .loadPersons().isPresent());
+    }
+
+    @Test
+    public void loadPersons_invalidPersons_skippedAndOtherPersonsLoaded() throws Exception {
+        JsonAddressBookLoader loader = new JsonAddressBookLoader(SKIPPED_PERSONS_FILE);
+        List<Person> persons = loader.loadPersons().get();
+
+        // the persons skipped are left as null at their positions
+        assertEquals(6, persons.size());
+        assertEquals("Valid Person", persons.get(0).getName().fullName);
+        assertNull(persons.get(1));
+        assertNull(persons.get(2));
+        assertNull(persons.get(3));
+        assertNull(persons.get(4));
+        assertEquals("Other Valid Person", persons.get(5).getName().fullName);
+        assertEquals(3, loader.getJournalSequence());
+
+        List<String> messages = loader.getSkippedPersonMessages();
+        assertEquals(4, messages.size());
+        assertEquals(String.format(JsonAddressBookLoader.MESSAGE_SKIPPED_PERSON, 2, SKIPPED_PERSONS_FILE,
+                Phone.MESSAGE_CONSTRAINTS), messages.get(0));
+        assertEquals(String.format(JsonAddressBookLoader.MESSAGE_SKIPPED_PERSON, 3, SKIPPED_PERSONS_FILE,
+                String.format(JsonAddressBookLoader.MESSAGE_DUPLICATE_PERSON, "hans@example.com")), messages.get(1));
+        assertEquals(String.format(JsonAddressBookLoader.MESSAGE_SKIPPED_PERSON, 4, SKIPPED_PERSONS_FILE,
+                JsonAddressBookLoader.MESSAGE_NOT_PERSON), messages.get(2));
+        assertTrue(messages.get(3).startsWith(String.format(JsonAddressBookLoader.MESSAGE_SKIPPED_PERSON, 5,
+                SKIPPED_PERSONS_FILE, "")));
+    }
+
+    @Test
+    public void loadPersons_notAddressBook_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookLoader(NOT_ADDRESS_BOOK_FILE).loadPersons());
+    }
+
+    @Test
+    public void loadPersons_truncatedFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookLoader(TRUNCATED_FILE).loadPersons());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -56,8 +57,17 @@ public class JsonAddressBookStorageTest {
     }
 
     @Test
-    public void readAddressBook_invalidAndValidPersonAddressBook_throwDataLoadingException() {
-        assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
+    public void readAddressBook_invalidAndValidPersonAddressBook_invalidPersonSkipped() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        ReadOnlyAddressBook addressBook = storage.readAddressBook(
+                TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json")).get();
+        assertEquals(1, addressBook.getPersonList().size());
+        assertEquals("Valid Person", addressBook.getPersonList().get(0).getName().fullName);
+        assertEquals(1, storage.getSkippedPersonMessages().size());
+
+        // the persons skipped are those of the last address book read
+        storage.readAddressBook(TEST_DATA_FOLDER.resolve("NonExistentFile.json"));
+        assertTrue(storage.getSkippedPersonMessages().isEmpty());
     }
 
     @Test
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> JsonAddressBookWriter.write(null, 0, filePath));
+        assertThrows(NullPointerException.class, () -> JsonAddressBookWriter.write(new AddressBook(), 0, null));
+    }
+
+    @Test
+    public void write_addressBook_compactJsonOfSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        long size = JsonAddressBookWriter.write(original, 5, filePath);
+
+        assertEquals(Files.size(filePath), size);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        JsonSerializableAddressBook written = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertEquals(original, written.toModelType());
+        assertEquals(5, written.getJournalSequence());
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original, 5)),
+                Files.readString(filePath));
+    }
+
+    @Test
+    public void write_noJournalSequence_journalSequenceOmitted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), 0, filePath);
+        assertFalse(Files.readString(filePath).contains("journalSequence"));
+    }
+
+    @Test
+    public void write_snapshot_writesPersonsWhenTaken() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = original.snapshot();
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+
+        JsonAddressBookWriter.write(snapshot, 0, filePath);
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void write_existingFileInMissingFolder_replacedWithoutTempFile() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("addressbook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), 0, filePath);
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        JsonAddressBookWriter.write(changed, 0, filePath);
+
+        assertEquals(changed, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(JsonAddressBookWriter.tempPathOf(filePath)));
+    }
+
+    @Test
+    public void write_tempFileCannotBeWritten_fileLeftAsItWas() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), 0, filePath);
+        String written = Files.readString(filePath);
+
+        // a folder in the way of the temporary file
+        Files.createDirectory(JsonAddressBookWriter.tempPathOf(filePath));
+        assertThrows(IOException.class, () -> JsonAddressBookWriter.write(new AddressBook(), 0, filePath));
+        assertEquals(written, Files.readString(filePath));
+    }
+}
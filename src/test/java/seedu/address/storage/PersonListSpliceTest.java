@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+public class PersonListSpliceTest {
+
+    @Test
+    public void constructor_negativeIndex_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonListSplice(-1, 0, Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new PersonListSplice(0, -1, Collections.emptyList()));
+    }
+
+    @Test
+    public void of_changes_replayedToSameList() {
+        ObservableList<Person> list = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+        List<Person> replayed = new ArrayList<>(list);
+        list.addListener((ListChangeListener<Person>) change ->
+                PersonListSplice.of(change).forEach(splice -> splice.applyTo(replayed)));
+
+        list.add(1, DANIEL);
+        list.remove(CARL);
+        list.set(0, HOON);
+        list.setAll(BENSON, HOON, DANIEL);
+        FXCollections.sort(list, (first, second) -> first.getName().fullName.compareTo(second.getName().fullName));
+        list.removeAll(Arrays.asList(HOON, BENSON));
+
+        assertEquals(list, replayed);
+    }
+
+    @Test
+    public void of_wholeListReplacedWithOneMove_spliceOfMovedRangeOnly() {
+        ObservableList<Person> list = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL, HOON);
+        List<PersonListSplice> splices = new ArrayList<>();
+        list.addListener((ListChangeListener<Person>) change -> splices.addAll(PersonListSplice.of(change)));
+
+        // pinning moves a person to the top by replacing the whole list
+        list.setAll(CARL, ALICE, BENSON, DANIEL, HOON);
+
+        assertEquals(1, splices.size());
+        assertEquals(0, splices.get(0).getAt());
+        assertEquals(3, splices.get(0).getRemovedCount());
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), splices.get(0).getPersons());
+    }
+
+    @Test
+    public void between_sameLists_noSplices() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON);
+        assertTrue(PersonListSplice.between(persons, new ArrayList<>(persons)).isEmpty());
+    }
+
+    @Test
+    public void between_differentLists_spliceChangesFirstIntoSecond() {
+        List<Person> before = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
+        List<Person> after = Arrays.asList(ALICE, HOON, DANIEL);
+        List<Person> replayed = new ArrayList<>(before);
+        List<PersonListSplice> splices = PersonListSplice.between(before, after);
+        splices.forEach(splice -> splice.applyTo(replayed));
+
+        assertEquals(1, splices.size());
+        assertEquals(after, replayed);
+    }
+
+    @Test
+    public void fits() {
+        PersonListSplice splice = new PersonListSplice(1, 2, Collections.singletonList(HOON));
+        assertTrue(splice.fits(3));
+        assertFalse(splice.fits(2));
+        assertEquals(2, splice.sizeAfter(3));
+    }
+}
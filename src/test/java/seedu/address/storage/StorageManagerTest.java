@@ -1,9 +1,15 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +66,58 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceSaved_notWrittenAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        original.addPerson(HOON);
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherAddressBookSavedToFile_writtenAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        storageManager.saveAddressBook(new AddressBook(), storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFailed_writtenAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        // a folder in the way of the temporary file the address book is written to
+        Path tempPath = JsonAddressBookWriter.tempPathOf(storageManager.getAddressBookFilePath());
+        Files.createDirectory(tempPath);
+        assertThrows(IOException.class, () -> storageManager.saveAddressBook(original));
+
+        Files.deleteIfExists(tempPath);
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void takeSaveIfChanged_unchangedSinceTaken_emptyResult() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.takeSaveIfChanged(original).get().write();
+        assertFalse(storageManager.takeSaveIfChanged(original).isPresent());
+
+        // the save taken counts as saved for saving the address book directly too
+        Files.delete(storageManager.getAddressBookFilePath());
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        original.addPerson(HOON);
+        assertTrue(storageManager.takeSaveIfChanged(original).isPresent());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final long ONE_HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeMaxStaleness_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindStorage(storageManager(), -1));
+    }
+
+    @Test
+    public void saveAddressBook_beforeFlush_writtenOnFlush() throws Exception {
+        StorageManager storageManager = storageManager();
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, ONE_HOUR);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        storage.flushAddressBook();
+        assertEquals(addressBook, storageManager.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_writesAddressBookAsSaved() throws Exception {
+        StorageManager storageManager = storageManager();
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, ONE_HOUR);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBook saved = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        storage.flushAddressBook();
+        assertEquals(saved, storageManager.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterMaxStaleness_writtenWithoutFlush() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager(addressBookStorage), 10);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), addressBookStorage.written.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writtenOnce() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager(addressBookStorage), ONE_HOUR);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        storage.flushAddressBook();
+        assertEquals(Collections.singletonList(addressBook), addressBookStorage.writes);
+    }
+
+    @Test
+    public void saveAddressBook_unchangedSinceSaved_notWrittenAgain() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager(addressBookStorage), ONE_HOUR);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.writes.size());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertEquals(Arrays.asList(getTypicalAddressBook(), addressBook), addressBookStorage.writes);
+    }
+
+    @Test
+    public void saveAddressBook_savedThroughOtherStorage_notWrittenAgain() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        StorageManager storageManager = storageManager(addressBookStorage);
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, ONE_HOUR);
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.writes.size());
+    }
+
+    @Test
+    public void flushAddressBook_writeFails_throwsAndWritesAgainLater() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        addressBookStorage.failure = new IOException("disk full");
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager(addressBookStorage), ONE_HOUR);
+        List<IOException> reportedFailures = Collections.synchronizedList(new ArrayList<>());
+        storage.setSaveFailureHandler(reportedFailures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        assertThrows(IOException.class, "disk full", storage::flushAddressBook);
+        assertSame(addressBookStorage.failure, reportedFailures.get(0));
+
+        // the failed save is written along with the next one
+        addressBookStorage.failure = null;
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertEquals(Collections.singletonList(addressBook), addressBookStorage.writes);
+
+        // a failure after a successful write is reported again
+        addressBookStorage.failure = new IOException("disk full again");
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, "disk full again", storage::flushAddressBook);
+        assertEquals(2, reportedFailures.size());
+        assertSame(addressBookStorage.failure, reportedFailures.get(1));
+    }
+
+    @Test
+    public void saveAddressBook_writeKeepsFailing_retriedLessOftenAndReportedOnce() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        addressBookStorage.failure = new IOException("disk full");
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager(addressBookStorage), 10);
+        List<IOException> reportedFailures = Collections.synchronizedList(new ArrayList<>());
+        storage.setSaveFailureHandler(reportedFailures::add);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // the delay before each retry is at least twice the one before
+        long previousAttempt = nextAttempt(addressBookStorage);
+        long retryDelay = TimeUnit.MILLISECONDS.toNanos(WriteBehindStorage.MIN_RETRY_DELAY);
+        for (int i = 0; i < 3; i++) {
+            long attempt = nextAttempt(addressBookStorage);
+            assertTrue(attempt - previousAttempt >= retryDelay);
+            previousAttempt = attempt;
+            retryDelay *= 2;
+        }
+        assertEquals(Collections.singletonList(addressBookStorage.failure), reportedFailures);
+    }
+
+    @Test
+    public void flushAddressBook_nothingSaved_returns() throws Exception {
+        new WriteBehindStorage(storageManager(), ONE_HOUR).flushAddressBook();
+    }
+
+    private static long nextAttempt(CountingAddressBookStorage addressBookStorage) throws InterruptedException {
+        Long attempt = addressBookStorage.attempts.poll(10, TimeUnit.SECONDS);
+        assertNotNull(attempt);
+        return attempt;
+    }
+
+    private StorageManager storageManager() {
+        return storageManager(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")));
+    }
+
+    private StorageManager storageManager(AddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    /**
+     * An {@code AddressBookStorage} that keeps the address books written and the times it tried to write them, and
+     * fails to write them while its {@code failure} is set.
+     */
+    private class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<AddressBook> writes = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<AddressBook> written = new CompletableFuture<>();
+        private final BlockingQueue<Long> attempts = new LinkedBlockingQueue<>();
+        private volatile IOException failure;
+
+        private CountingAddressBookStorage() {
+            super(testFolder.resolve("addressbook.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            attempts.add(System.nanoTime());
+            if (failure != null) {
+                throw failure;
+            }
+            AddressBook copy = new AddressBook(addressBook);
+            writes.add(copy);
+            written.complete(copy);
+        }
+    }
+}